@@ -0,0 +1,67 @@
+package crypto.benchmark;
+
+import crypto.alphabet.Alphabet;
+import crypto.compress.ArithmeticEncodingDecimal;
+import crypto.entropy.EntropyUtil;
+import crypto.util.Tracer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding of a random message by the arithmetic way with decimal precision
+ *
+ * @since 1.4
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ArithmeticEncodingDecimalBenchmark {
+
+    @Param({"ENGLISH", "BINARY"})
+    public Alphabet alphabet;
+
+    @Param({"16", "128"})
+    public int size;
+
+    private ArithmeticEncodingDecimal arithmeticEncoding;
+    private String message;
+    private Map<Character, Double> probabilities;
+    private BigDecimal encodedMessage;
+
+    @Setup
+    public void setUp() {
+        arithmeticEncoding = new ArithmeticEncodingDecimal(BenchmarkData.NULL_STREAM, Tracer.disabled());
+        message = BenchmarkData.randomMessage(alphabet, size);
+        probabilities = new EntropyUtil(BenchmarkData.NULL_STREAM)
+                .getProbabilitiesOfCharsByMessage(message, message.chars().toArray());
+        encodedMessage = arithmeticEncoding.encode(message);
+    }
+
+    @Benchmark
+    public BigDecimal encode(ByteCounter counter) {
+        counter.bytes += size;
+        return arithmeticEncoding.encode(message);
+    }
+
+    @Benchmark
+    public String decode(ByteCounter counter) {
+        counter.bytes += size;
+        return arithmeticEncoding.decode(probabilities, encodedMessage, size);
+    }
+}
@@ -0,0 +1,78 @@
+package crypto.benchmark;
+
+import crypto.recoverycode.BatchSyndromeCalculator;
+import crypto.recoverycode.HammingCodec;
+import crypto.util.BitUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Syndromes of many hamming code words one by one and as a structure of arrays,
+ * the fork enables the vector API so the vector kernel is used if the library is compiled with it
+ *
+ * @since 1.4
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BatchSyndromeBenchmark {
+
+    @Param({"64", "1024"})
+    public int numberOfInformationBytes;
+
+    @Param({"4096"})
+    public int numberOfCodeWords;
+
+    private HammingCodec hammingCodec;
+    private BatchSyndromeCalculator batchSyndromeCalculator;
+    private long[][] packedCodeWords;
+    private long[][] codeWords;
+
+    @Setup
+    public void setUp() {
+        hammingCodec = HammingCodec.getInstance(numberOfInformationBytes,
+                BenchmarkData.getNumberOfRedundantBytes(numberOfInformationBytes));
+        batchSyndromeCalculator = BatchSyndromeCalculator.forHammingCodec(hammingCodec);
+        packedCodeWords = new long[numberOfCodeWords][];
+
+        int[] bits = BenchmarkData.randomBits(numberOfInformationBytes * numberOfCodeWords);
+        for (int i = 0; i < numberOfCodeWords; i++) {
+            packedCodeWords[i] = hammingCodec.encode(BitUtil.pack(bits, i * numberOfInformationBytes,
+                    numberOfInformationBytes));
+            BitUtil.flipBit(packedCodeWords[i], i % hammingCodec.getCodeWordLength());
+        }
+        codeWords = BatchSyndromeCalculator.toStructureOfArrays(packedCodeWords, hammingCodec.getCodeWordLength());
+    }
+
+    @Benchmark
+    public int[] oneByOne(ByteCounter counter) {
+        counter.bytes += (long) numberOfInformationBytes * numberOfCodeWords / Byte.SIZE;
+        int[] syndromes = new int[numberOfCodeWords];
+
+        for (int i = 0; i < numberOfCodeWords; i++) {
+            syndromes[i] = hammingCodec.calculateSyndrome(packedCodeWords[i]);
+        }
+
+        return syndromes;
+    }
+
+    @Benchmark
+    public long[][] batch(ByteCounter counter) {
+        counter.bytes += (long) numberOfInformationBytes * numberOfCodeWords / Byte.SIZE;
+        return batchSyndromeCalculator.calculateSyndromes(codeWords, numberOfCodeWords);
+    }
+}
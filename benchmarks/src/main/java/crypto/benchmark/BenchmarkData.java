@@ -0,0 +1,81 @@
+package crypto.benchmark;
+
+import crypto.alphabet.Alphabet;
+import crypto.entropy.EntropyUtil;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Random;
+
+/**
+ * Reproducible inputs of benchmarks
+ *
+ * @since 1.4
+ */
+final class BenchmarkData {
+
+    static final PrintStream NULL_STREAM = new PrintStream(OutputStream.nullOutputStream());
+
+    private static final long SEED = 20201015L;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * @return a message of random characters of a given alphabet
+     */
+    static String randomMessage(Alphabet alphabet, int length) {
+        int[] chars = new EntropyUtil(NULL_STREAM).initializeAlphabet(alphabet);
+        Random random = new Random(SEED);
+        StringBuilder builder = new StringBuilder(length);
+
+        for (int i = 0; i < length; i++) {
+            builder.append((char) chars[random.nextInt(chars.length)]);
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * @return random bits with one bit per int
+     */
+    static int[] randomBits(int length) {
+        Random random = new Random(SEED);
+        int[] bits = new int[length];
+
+        for (int i = 0; i < length; i++) {
+            bits[i] = random.nextInt(2);
+        }
+
+        return bits;
+    }
+
+    /**
+     * @return random bytes
+     */
+    static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+
+        new Random(SEED).nextBytes(bytes);
+
+        return bytes;
+    }
+
+    /**
+     * Invert one random bit of every row
+     */
+    static void damageRows(int[][] matrix) {
+        Random random = new Random(SEED);
+
+        for (int[] row : matrix) {
+            row[random.nextInt(row.length)] ^= 1;
+        }
+    }
+
+    /**
+     * @return a number of redundant bytes of the hamming code as it is calculated in the blueprint
+     */
+    static int getNumberOfRedundantBytes(int numberOfInformationBytes) {
+        return (int) Math.ceil(Math.log(numberOfInformationBytes) / Math.log(2) + 1);
+    }
+}
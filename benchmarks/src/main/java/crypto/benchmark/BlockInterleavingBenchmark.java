@@ -0,0 +1,79 @@
+package crypto.benchmark;
+
+import crypto.interleaving.BlockInterleaving;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and recovering of a matrix of hamming code words by the sequential and the parallel ways
+ *
+ * @since 1.4
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BlockInterleavingBenchmark {
+
+    private static final int NUMBER_OF_INFORMATION_BYTES = 57;
+    private static final int NUMBER_OF_REDUNDANT_BYTES = 7;
+    private static final int GRAIN_SIZE = 256;
+
+    @Param({"1024", "65536"})
+    public int numberOfRows;
+
+    private BlockInterleaving blockInterleaving;
+    private int[][] informationMatrix;
+    private int[][] receivedMatrix;
+
+    @Setup
+    public void setUp() {
+        blockInterleaving = new BlockInterleaving(BenchmarkData.NULL_STREAM);
+        informationMatrix = blockInterleaving.getInformationBytesMatrix(
+                BenchmarkData.randomBits(numberOfRows * NUMBER_OF_INFORMATION_BYTES), NUMBER_OF_INFORMATION_BYTES);
+        receivedMatrix = blockInterleaving.getEncodedBytesMatrix(informationMatrix,
+                NUMBER_OF_INFORMATION_BYTES, NUMBER_OF_REDUNDANT_BYTES);
+        BenchmarkData.damageRows(receivedMatrix);
+    }
+
+    @Benchmark
+    public int[][] encode(ByteCounter counter) {
+        counter.bytes += (long) numberOfRows * NUMBER_OF_INFORMATION_BYTES / Byte.SIZE;
+        return blockInterleaving.getEncodedBytesMatrix(informationMatrix,
+                NUMBER_OF_INFORMATION_BYTES, NUMBER_OF_REDUNDANT_BYTES);
+    }
+
+    @Benchmark
+    public int[][] decode(ByteCounter counter) {
+        counter.bytes += (long) numberOfRows * NUMBER_OF_INFORMATION_BYTES / Byte.SIZE;
+        return blockInterleaving.recoverEncodedBytesMatrix(receivedMatrix,
+                NUMBER_OF_INFORMATION_BYTES, NUMBER_OF_REDUNDANT_BYTES);
+    }
+
+    @Benchmark
+    public int[][] parallelEncode(ByteCounter counter) {
+        counter.bytes += (long) numberOfRows * NUMBER_OF_INFORMATION_BYTES / Byte.SIZE;
+        return blockInterleaving.getEncodedBytesMatrix(informationMatrix,
+                NUMBER_OF_INFORMATION_BYTES, NUMBER_OF_REDUNDANT_BYTES, GRAIN_SIZE);
+    }
+
+    @Benchmark
+    public int[][] parallelDecode(ByteCounter counter) {
+        counter.bytes += (long) numberOfRows * NUMBER_OF_INFORMATION_BYTES / Byte.SIZE;
+        return blockInterleaving.recoverEncodedBytesMatrix(receivedMatrix,
+                NUMBER_OF_INFORMATION_BYTES, NUMBER_OF_REDUNDANT_BYTES, GRAIN_SIZE);
+    }
+}
@@ -0,0 +1,62 @@
+package crypto.benchmark;
+
+import crypto.recoverycode.CycleCode;
+import crypto.util.Tracer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and syndrome calculation of one cycle code word with the generating polynomial of CRC-16-CCITT
+ *
+ * @since 1.4
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CycleCodeBenchmark {
+
+    private static final int[] GENERATING_POLYNOMIAL = {1, 0, 0, 0, 1, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1};
+
+    @Param({"64", "1024", "16384"})
+    public int codeWordLength;
+
+    private CycleCode cycleCode;
+    private int numberOfInformationBytes;
+    private int[] message;
+    private int[] receivedMessage;
+
+    @Setup
+    public void setUp() {
+        cycleCode = new CycleCode(Tracer.disabled());
+        numberOfInformationBytes = codeWordLength - GENERATING_POLYNOMIAL.length + 1;
+        message = BenchmarkData.randomBits(numberOfInformationBytes);
+        receivedMessage = cycleCode.encode(numberOfInformationBytes, codeWordLength, message, GENERATING_POLYNOMIAL);
+        receivedMessage[numberOfInformationBytes / 2] ^= 1;
+    }
+
+    @Benchmark
+    public int[] encode(ByteCounter counter) {
+        counter.bytes += numberOfInformationBytes / Byte.SIZE;
+        return cycleCode.encode(numberOfInformationBytes, codeWordLength, message, GENERATING_POLYNOMIAL);
+    }
+
+    @Benchmark
+    public int[] decode(ByteCounter counter) {
+        counter.bytes += numberOfInformationBytes / Byte.SIZE;
+        return cycleCode.calculateSyndrome(receivedMessage, GENERATING_POLYNOMIAL, numberOfInformationBytes);
+    }
+}
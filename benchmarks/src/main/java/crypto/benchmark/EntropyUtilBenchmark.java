@@ -0,0 +1,80 @@
+package crypto.benchmark;
+
+import crypto.alphabet.Alphabet;
+import crypto.entropy.EntropyUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calculation of probabilities and entropy of a random message kept in memory and in a file
+ *
+ * @since 1.4
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EntropyUtilBenchmark {
+
+    @Param({"ENGLISH", "RUSSIAN", "BINARY"})
+    public Alphabet alphabet;
+
+    @Param({"4096", "1048576"})
+    public int size;
+
+    private EntropyUtil entropyUtil;
+    private String message;
+    private int[] alphabetChars;
+    private Path file;
+
+    @Setup
+    public void setUp() throws IOException {
+        entropyUtil = new EntropyUtil(BenchmarkData.NULL_STREAM);
+        message = BenchmarkData.randomMessage(alphabet, size);
+        alphabetChars = entropyUtil.initializeAlphabet(alphabet);
+        file = Files.createTempFile("entropy", ".txt");
+        Files.writeString(file, message, StandardCharsets.UTF_8);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public Map<Character, Double> probabilitiesOfMessage(ByteCounter counter) {
+        counter.bytes += size;
+        return entropyUtil.getProbabilitiesOfCharsByMessage(message, alphabetChars);
+    }
+
+    @Benchmark
+    public double entropyOfMessage(ByteCounter counter) {
+        counter.bytes += size;
+        return entropyUtil.calculateEntropy(message);
+    }
+
+    @Benchmark
+    public double entropyOfFile(ByteCounter counter) throws IOException {
+        counter.bytes += Files.size(file);
+        return entropyUtil.calculateEntropy(file.toString(), alphabetChars);
+    }
+}
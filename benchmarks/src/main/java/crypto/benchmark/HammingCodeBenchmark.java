@@ -0,0 +1,84 @@
+package crypto.benchmark;
+
+import crypto.recoverycode.HammingCode;
+import crypto.recoverycode.HammingCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and recovering of one hamming code word by the int array API and by the cached codec
+ *
+ * @since 1.4
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HammingCodeBenchmark {
+
+    @Param({"64", "1024", "16384"})
+    public int numberOfInformationBytes;
+
+    private HammingCode hammingCode;
+    private HammingCodec hammingCodec;
+    private int numberOfRedundantBytes;
+    private int[][] checkMatrix;
+    private int[] message;
+    private int[] receivedMessage;
+
+    @Setup
+    public void setUp() {
+        hammingCode = new HammingCode(BenchmarkData.NULL_STREAM);
+        numberOfRedundantBytes = BenchmarkData.getNumberOfRedundantBytes(numberOfInformationBytes);
+        hammingCodec = HammingCodec.getInstance(numberOfInformationBytes, numberOfRedundantBytes);
+        checkMatrix = hammingCode.getCheckMatrix(numberOfInformationBytes, numberOfRedundantBytes);
+        message = BenchmarkData.randomBits(numberOfInformationBytes);
+        receivedMessage = hammingCode.encodeMessage(checkMatrix, message,
+                numberOfInformationBytes, numberOfRedundantBytes);
+        receivedMessage[numberOfInformationBytes / 2] ^= 1;
+    }
+
+    @Benchmark
+    public int[] encode(ByteCounter counter) {
+        counter.bytes += numberOfInformationBytes / Byte.SIZE;
+        return hammingCode.encodeMessage(checkMatrix, message, numberOfInformationBytes, numberOfRedundantBytes);
+    }
+
+    @Benchmark
+    public int[] decode(ByteCounter counter) {
+        counter.bytes += numberOfInformationBytes / Byte.SIZE;
+        int[] redundantBytes = hammingCode.getRedundantBytes(receivedMessage,
+                numberOfInformationBytes, numberOfRedundantBytes);
+        int[] calculatedRedundantBytes = hammingCode.calculateRedundantBytes(checkMatrix, receivedMessage,
+                numberOfInformationBytes, numberOfRedundantBytes);
+        int[] syndrome = hammingCode.getSyndrome(redundantBytes, calculatedRedundantBytes);
+        int[] recoveryBytes = hammingCode.getRecoveryBytes(syndrome, checkMatrix,
+                numberOfInformationBytes, numberOfRedundantBytes);
+        return hammingCode.recoverMessage(receivedMessage, recoveryBytes);
+    }
+
+    @Benchmark
+    public int[] codecEncode(ByteCounter counter) {
+        counter.bytes += numberOfInformationBytes / Byte.SIZE;
+        return hammingCodec.encodeMessage(message);
+    }
+
+    @Benchmark
+    public int[] codecDecode(ByteCounter counter) {
+        counter.bytes += numberOfInformationBytes / Byte.SIZE;
+        return hammingCodec.recoverMessage(receivedMessage);
+    }
+}
@@ -0,0 +1,93 @@
+package crypto.benchmark;
+
+import crypto.recoverycode.IterativeCode;
+import crypto.recoverycode.IterativeCodec;
+import crypto.util.BitUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and recovering of one square block of the iterative code
+ *
+ * @since 1.4
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class IterativeCodeBenchmark {
+
+    @Param({"8", "64", "256"})
+    public int size;
+
+    private IterativeCode iterativeCode;
+    private IterativeCodec iterativeCodec;
+    private int[] message;
+    private int[] receivedMessage;
+    private long[] packedMessage;
+    private long[] packedReceivedMessage;
+
+    @Setup
+    public void setUp() {
+        iterativeCode = new IterativeCode(BenchmarkData.NULL_STREAM);
+        message = BenchmarkData.randomBits(size * size);
+        receivedMessage = iterativeCode.convertMatrixToMessage(iterativeCode.buildMatrix(message, size, size),
+                size, size);
+        receivedMessage[size * size / 2] ^= 1;
+        iterativeCodec = new IterativeCodec(size, size);
+        packedMessage = BitUtil.pack(message, 0, message.length);
+        packedReceivedMessage = BitUtil.pack(receivedMessage, 0, receivedMessage.length);
+    }
+
+    @Benchmark
+    public int[] encode(ByteCounter counter) {
+        counter.bytes += size * size / Byte.SIZE;
+        return iterativeCode.convertMatrixToMessage(iterativeCode.buildMatrix(message, size, size), size, size);
+    }
+
+    @Benchmark
+    public int[] decode(ByteCounter counter) {
+        counter.bytes += size * size / Byte.SIZE;
+        int[] messageWithoutRedundantBytes = iterativeCode.getMessageWithoutRedundantBytes(receivedMessage,
+                size, size);
+        int[] redundantBytes = iterativeCode.getRedundantBytesFromMessage(receivedMessage, size, size);
+        int[] calculatedRedundantBytes = iterativeCode.calculateRedundantBytes(messageWithoutRedundantBytes,
+                size, size);
+        int[] syndrome = iterativeCode.getSyndrome(redundantBytes, calculatedRedundantBytes, receivedMessage,
+                size, size);
+        return iterativeCode.recoverMessage(receivedMessage, iterativeCode.getRecoveryBytes(syndrome, size, size));
+    }
+
+    @Benchmark
+    public long[] codecEncode(ByteCounter counter) {
+        counter.bytes += size * size / Byte.SIZE;
+        return iterativeCodec.encode(packedMessage);
+    }
+
+    @Benchmark
+    public long[] codecSyndrome(ByteCounter counter) {
+        counter.bytes += size * size / Byte.SIZE;
+        return iterativeCodec.calculateSyndrome(packedReceivedMessage);
+    }
+
+    @Benchmark
+    public long[] codecRecover(ByteCounter counter) {
+        counter.bytes += size * size / Byte.SIZE;
+        long[] packedCodeWord = packedReceivedMessage.clone();
+        iterativeCodec.recover(packedCodeWord);
+        return packedCodeWord;
+    }
+}
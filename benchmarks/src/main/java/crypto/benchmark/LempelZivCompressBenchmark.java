@@ -0,0 +1,63 @@
+package crypto.benchmark;
+
+import crypto.alphabet.Alphabet;
+import crypto.compress.LempelZivCompress;
+import crypto.util.Tracer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compressing and decompressing of a random message by the Lempel and Ziv way
+ *
+ * @since 1.4
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LempelZivCompressBenchmark {
+
+    private static final int CAPACITY = 9;
+
+    @Param({"ENGLISH", "RUSSIAN", "BINARY"})
+    public Alphabet alphabet;
+
+    @Param({"256", "4096"})
+    public int size;
+
+    private LempelZivCompress lempelZivCompress;
+    private String message;
+    private String compressedMessage;
+
+    @Setup
+    public void setUp() {
+        lempelZivCompress = new LempelZivCompress(Tracer.disabled());
+        message = BenchmarkData.randomMessage(alphabet, size);
+        compressedMessage = lempelZivCompress.compress(message, CAPACITY);
+    }
+
+    @Benchmark
+    public String encode(ByteCounter counter) {
+        counter.bytes += size;
+        return lempelZivCompress.compress(message, CAPACITY);
+    }
+
+    @Benchmark
+    public String decode(ByteCounter counter) {
+        counter.bytes += size;
+        return lempelZivCompress.decompress(compressedMessage, CAPACITY);
+    }
+}
@@ -0,0 +1,66 @@
+package crypto.benchmark;
+
+import crypto.alphabet.Alphabet;
+import crypto.compress.ShannonFanoCode;
+import crypto.entropy.EntropyUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding of a random message by the shannon fano codes of its characters
+ *
+ * @since 1.4
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ShannonFanoCodeBenchmark {
+
+    @Param({"ENGLISH", "RUSSIAN", "BINARY"})
+    public Alphabet alphabet;
+
+    @Param({"1024", "65536"})
+    public int size;
+
+    private ShannonFanoCode shannonFanoCode;
+    private String message;
+    private Map<Character, String> codes;
+    private String encodedMessage;
+
+    @Setup
+    public void setUp() {
+        shannonFanoCode = new ShannonFanoCode(BenchmarkData.NULL_STREAM);
+        message = BenchmarkData.randomMessage(alphabet, size);
+        Map<Character, Double> probabilities = new EntropyUtil(BenchmarkData.NULL_STREAM)
+                .getProbabilitiesOfCharsByMessage(message, message.chars().distinct().toArray());
+        codes = shannonFanoCode.getShannonFanoBinaryCodes(probabilities);
+        encodedMessage = shannonFanoCode.encodeMessageByShannonFano(codes, message);
+    }
+
+    @Benchmark
+    public String encode(ByteCounter counter) {
+        counter.bytes += size;
+        return shannonFanoCode.encodeMessageByShannonFano(codes, message);
+    }
+
+    @Benchmark
+    public String decode(ByteCounter counter) {
+        counter.bytes += size;
+        return shannonFanoCode.decodeMessageByShannonFano(codes, encodedMessage);
+    }
+}
@@ -0,0 +1,68 @@
+package crypto.recoverycode;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Syndrome kernel with the preferred number of code words per vector operation.
+ * A parity of a lane is folded by shifts and XOR, so the kernel needs only the operations of JDK 16.
+ * The class is compiled by the vector profile and loaded by {@link BatchSyndromeCalculator} through reflection
+ *
+ * @since 1.4
+ */
+final class VectorSyndromeKernel implements SyndromeKernel {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    @Override
+    public void calculateSyndromes(long[][] packedCheckMatrix, long[][] codeWords, int numberOfCodeWords,
+                                   long[][] syndromes) {
+        long[] accumulators = new long[numberOfCodeWords];
+        int bound = SPECIES.loopBound(numberOfCodeWords);
+
+        for (int row = 0; row < packedCheckMatrix.length; row++) {
+            long[] checkMatrixRow = packedCheckMatrix[row];
+
+            for (int w = 0; w < checkMatrixRow.length; w++) {
+                long mask = checkMatrixRow[w];
+                if (mask == 0) {
+                    continue;
+                }
+                long[] words = codeWords[w];
+                int i = 0;
+                for (; i < bound; i += SPECIES.length()) {
+                    LongVector.fromArray(SPECIES, accumulators, i)
+                            .lanewise(VectorOperators.XOR, LongVector.fromArray(SPECIES, words, i).and(mask))
+                            .intoArray(accumulators, i);
+                }
+                for (; i < numberOfCodeWords; i++) {
+                    accumulators[i] ^= words[i] & mask;
+                }
+            }
+
+            long[] syndromeWords = syndromes[row >>> 6];
+            int shift = ~row & 63;
+            int i = 0;
+            for (; i < bound; i += SPECIES.length()) {
+                LongVector parity = LongVector.fromArray(SPECIES, accumulators, i);
+                for (int fold = Long.SIZE / 2; fold > 0; fold >>>= 1) {
+                    parity = parity.lanewise(VectorOperators.XOR, parity.lanewise(VectorOperators.LSHR, fold));
+                }
+                LongVector.fromArray(SPECIES, syndromeWords, i)
+                        .or(parity.and(1L).lanewise(VectorOperators.LSHL, shift))
+                        .intoArray(syndromeWords, i);
+                LongVector.zero(SPECIES).intoArray(accumulators, i);
+            }
+            for (; i < numberOfCodeWords; i++) {
+                syndromeWords[i] |= (long) (Long.bitCount(accumulators[i]) & 1) << shift;
+                accumulators[i] = 0;
+            }
+        }
+    }
+
+    @Override
+    public boolean isVectorized() {
+        return true;
+    }
+}
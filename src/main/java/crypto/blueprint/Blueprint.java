@@ -16,6 +16,7 @@ import crypto.util.PrintUtil;
 import java.io.PrintStream;
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -109,7 +110,9 @@ public class Blueprint {
                 .println("the recovery bytes are")
                 .printArray(recoveryBytes).println()
                 .println("the recovered message is")
-                .printArray(recoveredMessage).println();
+                .printArray(recoveredMessage).println()
+                .println("the recovered text is")
+                .println(toText(recoveredMessage, numberOfInformationWordBytes));
     }
 
     /**
@@ -189,7 +192,9 @@ public class Blueprint {
                 .println("the recovery bytes are")
                 .printArray(recoveryBytes).println()
                 .println("the recovered message is")
-                .printArray(recoveredMessage).println();
+                .printArray(recoveredMessage).println()
+                .println("the recovered text is")
+                .println(toText(recoveredMessage, numberOfInformationWordBytes));
     }
 
     /**
@@ -232,7 +237,8 @@ public class Blueprint {
                 .calculateRedundantBytes(receivedEncodedMessageWithoutRedundantBytes, numberOfRows, numberOfColumns);
         int[] syndrome = iterativeCode.getSyndrome(receivedRedundantBytes, calculatedRedundantBytes,
                 receivedEncodedMessage, numberOfRows, numberOfColumns);
-        int[] recoveryBytes = iterativeCode.getRecoveryBytes(syndrome, numberOfRows, numberOfColumns);
+        int[] recoveryBytes = iterativeCode.getRecoveryBytesOfMessage(receivedEncodedMessage,
+                numberOfRows, numberOfColumns);
         int[] recoveredMessage = iterativeCode.recoverMessage(receivedEncodedMessage, recoveryBytes);
 
         printUtil.println("the message is")
@@ -258,7 +264,9 @@ public class Blueprint {
                 .println("the recovery bytes are")
                 .printArray(recoveryBytes).println()
                 .println("the recovered message is")
-                .printArray(recoveredMessage).println();
+                .printArray(recoveredMessage).println()
+                .println("the recovered text is")
+                .println(toText(recoveredMessage, chars.length));
     }
 
     /**
@@ -477,6 +485,21 @@ public class Blueprint {
                 .println("the sent message is")
                 .printArray(bytes).println()
                 .println("the decoded message is")
-                .printArray(gottenMessage).println();
+                .printArray(gottenMessage).println()
+                .println("the decoded text is")
+                .println(toText(gottenMessage, bytes.length));
+    }
+
+    /**
+     * Convert the whole chars among a given number of the first bits back to a text,
+     * a recovered message may be empty or longer than the sent one
+     *
+     * @return a text
+     * @since 1.4
+     */
+    private String toText(int[] bits, int numberOfBits) {
+        int length = Math.min(bits.length, numberOfBits) / Byte.SIZE * Byte.SIZE;
+
+        return messageUtil.convertByteArrayToMessage(Arrays.copyOf(bits, length));
     }
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+package crypto.compress;
+
+/**
+ * Frequencies of symbols which grow while the symbols are coded, so the coder and the decoder
+ * build the same model from the coded symbols without a table of probabilities.
+ * Cumulative frequencies are kept in a Fenwick tree, a query and an update take O(log n) steps.
+ * Every symbol starts with the frequency one and gains {@link #INCREMENT} when it is coded,
+ * all frequencies are halved when the total frequency would exceed {@link FrequencyTable#MAX_TOTAL_FREQUENCY}
+ *
+ * @since 1.4
+ */
+public final class AdaptiveFrequencyModel {
+
+    public static final int INCREMENT = 32;
+
+    private final int numberOfSymbols;
+    private final int[] frequencies;
+    private final int[] tree;
+    private final int highestStep;
+    private int totalFrequency;
+
+    public AdaptiveFrequencyModel(int numberOfSymbols) {
+        if (numberOfSymbols < 1 || numberOfSymbols > FrequencyTable.MAX_TOTAL_FREQUENCY / 2) {
+            throw new IllegalArgumentException("number of symbols should be from 1 to "
+                    + FrequencyTable.MAX_TOTAL_FREQUENCY / 2);
+        }
+
+        this.numberOfSymbols = numberOfSymbols;
+        this.frequencies = new int[numberOfSymbols];
+        this.tree = new int[numberOfSymbols + 1];
+        this.highestStep = Integer.highestOneBit(numberOfSymbols);
+
+        for (int i = 0; i < numberOfSymbols; i++) {
+            frequencies[i] = 1;
+        }
+        buildTree();
+    }
+
+    /**
+     * Fill the tree so that the node i keeps the sum of frequencies of the symbols from i - (i & -i) to i - 1
+     */
+    private void buildTree() {
+        totalFrequency = 0;
+        for (int i = 1; i <= numberOfSymbols; i++) {
+            tree[i] = frequencies[i - 1];
+            totalFrequency += frequencies[i - 1];
+        }
+        for (int i = 1; i <= numberOfSymbols; i++) {
+            int parent = i + (i & -i);
+            if (parent <= numberOfSymbols) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    public int getNumberOfSymbols() {
+        return numberOfSymbols;
+    }
+
+    public int getTotalFrequency() {
+        return totalFrequency;
+    }
+
+    public int getFrequency(int symbol) {
+        return frequencies[symbol];
+    }
+
+    /**
+     * @return a sum of frequencies of all symbols which are less than a given symbol
+     * @since 1.4
+     */
+    public int getCumulativeFrequency(int symbol) {
+        int sum = 0;
+
+        for (int i = symbol; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+
+        return sum;
+    }
+
+    /**
+     * @return a symbol which owns a given cumulative frequency
+     * @since 1.4
+     */
+    public int findSymbol(int cumulativeFrequency) {
+        int position = 0;
+
+        for (int step = highestStep; step > 0; step >>>= 1) {
+            int next = position + step;
+            if (next <= numberOfSymbols && tree[next] <= cumulativeFrequency) {
+                position = next;
+                cumulativeFrequency -= tree[next];
+            }
+        }
+
+        return position;
+    }
+
+    /**
+     * Increase the frequency of a given symbol after it has been coded
+     *
+     * @since 1.4
+     */
+    public void update(int symbol) {
+        if (totalFrequency + INCREMENT > FrequencyTable.MAX_TOTAL_FREQUENCY) {
+            for (int i = 0; i < numberOfSymbols; i++) {
+                frequencies[i] = (frequencies[i] + 1) >>> 1;
+            }
+            buildTree();
+        }
+
+        frequencies[symbol] += INCREMENT;
+        totalFrequency += INCREMENT;
+        for (int i = symbol + 1; i <= numberOfSymbols; i += i & -i) {
+            tree[i] += INCREMENT;
+        }
+    }
+}
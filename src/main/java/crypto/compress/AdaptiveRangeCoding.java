@@ -0,0 +1,115 @@
+package crypto.compress;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Compress streams of bytes in one pass by the range coder with {@link AdaptiveFrequencyModel}.
+ * The model has a symbol for every byte and one more symbol that marks the end of data,
+ * so neither the length of data nor a table of probabilities is written
+ *
+ * @since 1.4
+ */
+public final class AdaptiveRangeCoding {
+
+    public static final int END_OF_DATA = 1 << Byte.SIZE;
+
+    private static final int NUMBER_OF_SYMBOLS = END_OF_DATA + 1;
+    private static final int BUFFER_SIZE = 1 << 13;
+
+    /**
+     * Compress all bytes of a given input stream into a given output stream
+     *
+     * @since 1.4
+     */
+    public void encode(InputStream inputStream, OutputStream outputStream) throws IOException {
+        AdaptiveFrequencyModel model = new AdaptiveFrequencyModel(NUMBER_OF_SYMBOLS);
+        OutputStream bufferedStream = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+        RangeEncoder encoder = new RangeEncoder(bufferedStream);
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int length;
+
+        while ((length = inputStream.read(buffer)) >= 0) {
+            for (int i = 0; i < length; i++) {
+                encode(encoder, model, buffer[i] & 0xFF);
+            }
+        }
+        encode(encoder, model, END_OF_DATA);
+
+        encoder.finish();
+    }
+
+    private void encode(RangeEncoder encoder, AdaptiveFrequencyModel model, int symbol) throws IOException {
+        encoder.encode(model.getCumulativeFrequency(symbol), model.getFrequency(symbol), model.getTotalFrequency());
+        model.update(symbol);
+    }
+
+    /**
+     * Decompress a given input stream into a given output stream. The input stream is read ahead
+     * through a buffer, so bytes after the compressed data may be consumed
+     *
+     * @since 1.4
+     */
+    public void decode(InputStream inputStream, OutputStream outputStream) throws IOException {
+        AdaptiveFrequencyModel model = new AdaptiveFrequencyModel(NUMBER_OF_SYMBOLS);
+        RangeDecoder decoder = new RangeDecoder(new BufferedInputStream(inputStream, BUFFER_SIZE));
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int length = 0;
+
+        while (true) {
+            int symbol = model.findSymbol(decoder.getFrequency(model.getTotalFrequency()));
+            decoder.decode(model.getCumulativeFrequency(symbol), model.getFrequency(symbol));
+            if (symbol == END_OF_DATA) {
+                break;
+            }
+            model.update(symbol);
+
+            buffer[length++] = (byte) symbol;
+            if (length == buffer.length) {
+                outputStream.write(buffer, 0, length);
+                length = 0;
+            }
+        }
+
+        outputStream.write(buffer, 0, length);
+        outputStream.flush();
+    }
+
+    /**
+     * @return compressed bytes
+     * @since 1.4
+     */
+    public byte[] encode(byte[] data) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try {
+            encode(new ByteArrayInputStream(data), outputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * @return decompressed bytes
+     * @since 1.4
+     */
+    public byte[] decode(byte[] encodedData) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try {
+            decode(new ByteArrayInputStream(encodedData), outputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return outputStream.toByteArray();
+    }
+}
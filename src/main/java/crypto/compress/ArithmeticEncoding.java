@@ -1,7 +1,7 @@
 package crypto.compress;
 
 import crypto.entropy.EntropyUtil;
-import crypto.util.PrintUtil;
+import crypto.util.Tracer;
 import java.io.PrintStream;
 import java.math.BigDecimal;
 import java.util.LinkedHashMap;
@@ -16,11 +16,19 @@ import java.util.stream.Collectors;
  */
 public final class ArithmeticEncoding {
 
-    private final PrintUtil printUtil;
+    private final Tracer tracer;
     private final EntropyUtil entropyUtil;
 
     public ArithmeticEncoding(PrintStream stream) {
-        this.printUtil = new PrintUtil(stream);
+        this(stream, Tracer.verbose(stream));
+    }
+
+    /**
+     * @param tracer prints the borders of intervals on every step
+     * @since 1.4
+     */
+    public ArithmeticEncoding(PrintStream stream, Tracer tracer) {
+        this.tracer = tracer;
         this.entropyUtil = new EntropyUtil(stream);
     }
 
@@ -43,9 +51,12 @@ public final class ArithmeticEncoding {
                     new Properties(lowerBorder, i.getValue() + lowerBorder,
                             lowerBorder, i.getValue() + lowerBorder, i.getValue()));
             lowerBorder += i.getValue();
-            printUtil.println(i.getKey() + " : " + lettersAndTheirProperties.get(i.getKey()).lowerBorder
-                    + " / " + lettersAndTheirProperties.get(i.getKey()).higherBorder
-                    + " / " + lettersAndTheirProperties.get(i.getKey()).probability);
+            if (tracer.isEnabled()) {
+                tracer.getPrintUtil().println(i.getKey() + " : "
+                        + lettersAndTheirProperties.get(i.getKey()).lowerBorder
+                        + " / " + lettersAndTheirProperties.get(i.getKey()).higherBorder
+                        + " / " + lettersAndTheirProperties.get(i.getKey()).probability);
+            }
         }
 
         return marking(lettersAndTheirProperties, message.toCharArray(), entropy, 0);
@@ -70,16 +81,21 @@ public final class ArithmeticEncoding {
                     new Properties(lowerBorder, i.getValue() + lowerBorder,
                             lowerBorder, i.getValue() + lowerBorder, i.getValue()));
             lowerBorder += i.getValue();
-            printUtil.println(i.getKey() + " : " + lettersAndTheirProperties.get(i.getKey()).lowerBorder
-                    + " / " + lettersAndTheirProperties.get(i.getKey()).higherBorder
-                    + " / " + lettersAndTheirProperties.get(i.getKey()).probability);
+            if (tracer.isEnabled()) {
+                tracer.getPrintUtil().println(i.getKey() + " : "
+                        + lettersAndTheirProperties.get(i.getKey()).lowerBorder
+                        + " / " + lettersAndTheirProperties.get(i.getKey()).higherBorder
+                        + " / " + lettersAndTheirProperties.get(i.getKey()).probability);
+            }
         }
 
         double higher = 0;
         double lower = 0;
         boolean isFound = false;
         for (int i = 0; i < numberOfCharsInMessage; i++) {
-            printUtil.println("step " + i);
+            if (tracer.isEnabled()) {
+                tracer.getPrintUtil().println("step " + i);
+            }
 
             for (var j : lettersAndTheirProperties.entrySet()) {
                 if (encodedWord > j.getValue().lowerBorder && encodedWord < j.getValue().higherBorder) {
@@ -99,10 +115,13 @@ public final class ArithmeticEncoding {
                 }
             }
 
-            for (var j : lettersAndTheirProperties.entrySet()) {
-                printUtil.println(j.getKey() + " : " + lettersAndTheirProperties.get(j.getKey()).lowerBorder
-                        + " / " + lettersAndTheirProperties.get(j.getKey()).higherBorder
-                        + " / " + lettersAndTheirProperties.get(j.getKey()).probability);
+            if (tracer.isEnabled()) {
+                for (var j : lettersAndTheirProperties.entrySet()) {
+                    tracer.getPrintUtil().println(j.getKey() + " : "
+                            + lettersAndTheirProperties.get(j.getKey()).lowerBorder
+                            + " / " + lettersAndTheirProperties.get(j.getKey()).higherBorder
+                            + " / " + lettersAndTheirProperties.get(j.getKey()).probability);
+                }
             }
         }
 
@@ -125,10 +144,12 @@ public final class ArithmeticEncoding {
             map.get(i).lowerBorder = lower + (higher - lower) * map.get(i).startLowerBorder;
         }
 
-        printUtil.println("step " + currentLetter);
-        for (var i : map.entrySet()) {
-            printUtil.println(i.getKey() + " : " + i.getValue().lowerBorder
-                    + " / " + i.getValue().higherBorder + " / " + i.getValue().probability);
+        if (tracer.isEnabled()) {
+            tracer.getPrintUtil().println("step " + currentLetter);
+            for (var i : map.entrySet()) {
+                tracer.getPrintUtil().println(i.getKey() + " : " + i.getValue().lowerBorder
+                        + " / " + i.getValue().higherBorder + " / " + i.getValue().probability);
+            }
         }
 
         if (currentLetter < message.length - 1) {
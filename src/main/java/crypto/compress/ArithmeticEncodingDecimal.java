@@ -1,10 +1,17 @@
 package crypto.compress;
 
 import crypto.entropy.EntropyUtil;
-import crypto.util.PrintUtil;
+import crypto.util.Tracer;
 
+import java.io.IOException;
 import java.io.PrintStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.math.BigDecimal;
+import java.math.MathContext;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -12,11 +19,19 @@ import java.util.stream.Collectors;
 
 public final class ArithmeticEncodingDecimal {
 
-    private final PrintUtil printUtil;
+    private final Tracer tracer;
     private final EntropyUtil entropyUtil;
 
     public ArithmeticEncodingDecimal(PrintStream stream) {
-        this.printUtil = new PrintUtil(stream);
+        this(stream, Tracer.verbose(stream));
+    }
+
+    /**
+     * @param tracer prints the borders of intervals on every step
+     * @since 1.4
+     */
+    public ArithmeticEncodingDecimal(PrintStream stream, Tracer tracer) {
+        this.tracer = tracer;
         this.entropyUtil = new EntropyUtil(stream);
     }
 
@@ -27,7 +42,9 @@ public final class ArithmeticEncodingDecimal {
      * @since 1.0
      */
     public BigDecimal encode(String message) {
-        printUtil.println("Encoding...");
+        if (tracer.isEnabled()) {
+            tracer.getPrintUtil().println("Encoding...");
+        }
         Map<Character, Double> probabilities = entropyUtil.getProbabilitiesOfCharsByMessage(message, message.chars().toArray());
         List<Map.Entry<Character, Double>> letters = probabilities.entrySet().stream()
                 .sorted(EntropyUtil.getComparatorForEntropy().reversed()).collect(Collectors.toList());
@@ -43,12 +60,15 @@ public final class ArithmeticEncodingDecimal {
                             lowerBorder, lowerBorder.add(BigDecimal.valueOf(i.getValue())),
                             BigDecimal.valueOf(i.getValue())));
             lowerBorder = lowerBorder.add(BigDecimal.valueOf(i.getValue()));
-            printUtil.println(i.getKey() + " : " + lettersAndTheirProperties.get(i.getKey()).lowerBorder
-                    + " / " + lettersAndTheirProperties.get(i.getKey()).higherBorder
-                    + " / " + lettersAndTheirProperties.get(i.getKey()).probability);
+            if (tracer.isEnabled()) {
+                tracer.getPrintUtil().println(i.getKey() + " : "
+                        + lettersAndTheirProperties.get(i.getKey()).lowerBorder
+                        + " / " + lettersAndTheirProperties.get(i.getKey()).higherBorder
+                        + " / " + lettersAndTheirProperties.get(i.getKey()).probability);
+            }
         }
 
-        return marking(lettersAndTheirProperties, message.toCharArray(), probabilities, 0);
+        return marking(lettersAndTheirProperties, message.toCharArray(), probabilities);
     }
 
     /**
@@ -58,7 +78,9 @@ public final class ArithmeticEncodingDecimal {
      * @since 1.0
      */
     public String decode(Map<Character, Double> probabilities, BigDecimal encodedWord, int numberOfCharsInMessage) {
-        printUtil.println("Decoding...");
+        if (tracer.isEnabled()) {
+            tracer.getPrintUtil().println("Decoding...");
+        }
         StringBuilder decodedMessage = new StringBuilder();
         List<Map.Entry<Character, Double>> letters = probabilities.entrySet().stream()
                 .sorted(EntropyUtil.getComparatorForEntropy().reversed()).collect(Collectors.toList());
@@ -74,9 +96,12 @@ public final class ArithmeticEncodingDecimal {
                             lowerBorder, lowerBorder.add(BigDecimal.valueOf(i.getValue())),
                             BigDecimal.valueOf(i.getValue())));
             lowerBorder = lowerBorder.add(BigDecimal.valueOf(i.getValue()));
-            printUtil.println(i.getKey() + " :-: " + lettersAndTheirProperties.get(i.getKey()).lowerBorder
-                    + " / " + lettersAndTheirProperties.get(i.getKey()).higherBorder
-                    + " / " + lettersAndTheirProperties.get(i.getKey()).probability);
+            if (tracer.isEnabled()) {
+                tracer.getPrintUtil().println(i.getKey() + " :-: "
+                        + lettersAndTheirProperties.get(i.getKey()).lowerBorder
+                        + " / " + lettersAndTheirProperties.get(i.getKey()).higherBorder
+                        + " / " + lettersAndTheirProperties.get(i.getKey()).probability);
+            }
         }
 
         BigDecimal higher = new BigDecimal(0);
@@ -84,7 +109,9 @@ public final class ArithmeticEncodingDecimal {
         boolean isFound = false;
 
         for (int i = 0; i < numberOfCharsInMessage; i++) {
-            printUtil.println("step " + i);
+            if (tracer.isEnabled()) {
+                tracer.getPrintUtil().println("step " + i);
+            }
 
             for (var j : lettersAndTheirProperties.entrySet()) {
                 if (j.getValue().lowerBorder.compareTo(encodedWord) < 0 && j.getValue().higherBorder.compareTo(encodedWord) > 0) {
@@ -106,10 +133,13 @@ public final class ArithmeticEncodingDecimal {
                 isFound = false;
             }
 
-            for (var j : lettersAndTheirProperties.entrySet()) {
-                printUtil.println(j.getKey() + " :-: " + lettersAndTheirProperties.get(j.getKey()).lowerBorder
-                        + " / " + lettersAndTheirProperties.get(j.getKey()).higherBorder
-                        + " / " + lettersAndTheirProperties.get(j.getKey()).probability);
+            if (tracer.isEnabled()) {
+                for (var j : lettersAndTheirProperties.entrySet()) {
+                    tracer.getPrintUtil().println(j.getKey() + " :-: "
+                            + lettersAndTheirProperties.get(j.getKey()).lowerBorder
+                            + " / " + lettersAndTheirProperties.get(j.getKey()).higherBorder
+                            + " / " + lettersAndTheirProperties.get(j.getKey()).probability);
+                }
             }
         }
 
@@ -117,38 +147,191 @@ public final class ArithmeticEncodingDecimal {
     }
 
     /**
-     * Util method that marks intervals during an encoding
+     * Encode a given message by the arithmetic way with a fixed number of digits of the interval.
+     * The settled leading digits are written as they appear, so the time is linear in the length of the message
+     *
+     * @return a number in [0, 1) that identifies a given word
+     * @since 1.4
+     */
+    public BigDecimal encode(String message, MathContext mathContext) {
+        StringWriter writer = new StringWriter();
+
+        try {
+            encode(message, entropyUtil.getProbabilitiesOfCharsByMessage(message, message.chars().toArray()),
+                    mathContext, writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return writer.getBuffer().length() == 0 ? BigDecimal.ZERO : new BigDecimal("0." + writer);
+    }
+
+    /**
+     * Encode a given message into a given writer as decimal digits of the fractional part of the code
+     *
+     * @throws IllegalArgumentException if there is no probability of a character of the message
+     * @throws ArithmeticException      if the precision is not enough for a probability of a character
+     * @since 1.4
+     */
+    public void encode(String message, Map<Character, Double> probabilities, MathContext mathContext,
+                       Writer writer) throws IOException {
+        DecimalInterval interval = new DecimalInterval(probabilities, mathContext);
+
+        for (int i = 0; i < message.length(); i++) {
+            int index = interval.getIndex(message.charAt(i));
+            if (index < 0) {
+                throw new IllegalArgumentException("there is no probability of char " + message.charAt(i));
+            }
+
+            interval.narrow(index);
+            if (tracer.isEnabled()) {
+                tracer.getPrintUtil().println("step " + i + " : " + interval.getLowerBorder()
+                        + " / " + interval.getHigherBorder());
+            }
+
+            int digit;
+            while ((digit = interval.getSettledDigit()) >= 0 || interval.isNarrow()) {
+                if (digit >= 0) {
+                    writer.write('0' + digit);
+                    interval.shift(digit);
+                } else {
+                    interval.clamp();
+                }
+            }
+        }
+
+        BigDecimal code = interval.getShortestCode();
+        if (code.scale() > 0) {
+            String digits = code.unscaledValue().toString();
+            for (int i = digits.length(); i < code.scale(); i++) {
+                writer.write('0');
+            }
+            writer.write(digits);
+        }
+        writer.flush();
+    }
+
+    /**
+     * Decode a given number that has been encoded with a fixed number of digits of the interval
+     *
+     * @return a decoded word
+     * @since 1.4
+     */
+    public String decode(Map<Character, Double> probabilities, BigDecimal encodedWord, int numberOfCharsInMessage,
+                         MathContext mathContext) {
+        String digits = encodedWord.toPlainString();
+        int point = digits.indexOf('.');
+
+        try {
+            return decode(probabilities, new StringReader(point < 0 ? "" : digits.substring(point + 1)),
+                    numberOfCharsInMessage, mathContext);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Decode a given number of characters from decimal digits of the fractional part of the code.
+     * Missing digits at the end are read as zeros
+     *
+     * @return a decoded word
+     * @since 1.4
+     */
+    public String decode(Map<Character, Double> probabilities, Reader reader, int numberOfCharsInMessage,
+                         MathContext mathContext) throws IOException {
+        DecimalInterval interval = new DecimalInterval(probabilities, mathContext);
+        StringBuilder decodedMessage = new StringBuilder(numberOfCharsInMessage);
+        StringBuilder window = new StringBuilder("0.");
+
+        for (int i = 0; i < mathContext.getPrecision(); i++) {
+            window.append((char) ('0' + readDigit(reader)));
+        }
+
+        BigDecimal code = new BigDecimal(window.toString());
+
+        for (int i = 0; i < numberOfCharsInMessage; i++) {
+            int index = interval.findIndex(code);
+            decodedMessage.append(interval.getChar(index));
+
+            interval.narrow(index);
+            if (tracer.isEnabled()) {
+                tracer.getPrintUtil().println("step " + i + " : " + interval.getLowerBorder()
+                        + " / " + interval.getHigherBorder());
+            }
+
+            int digit;
+            while ((digit = interval.getSettledDigit()) >= 0 || interval.isNarrow()) {
+                if (digit >= 0) {
+                    interval.shift(digit);
+                    code = code.movePointRight(1).subtract(BigDecimal.valueOf(digit))
+                            .add(BigDecimal.valueOf(readDigit(reader), mathContext.getPrecision()));
+                } else {
+                    interval.clamp();
+                }
+            }
+        }
+
+        return decodedMessage.toString();
+    }
+
+    private int readDigit(Reader reader) throws IOException {
+        int c = reader.read();
+
+        if (c < 0) {
+            return 0;
+        }
+        if (c < '0' || c > '9') {
+            throw new IOException("the code contains not a digit " + (char) c);
+        }
+
+        return c - '0';
+    }
+
+    /**
+     * Util method that marks intervals during an encoding.
+     * Only the interval of the current character is calculated, the borders of all characters
+     * are rewritten when the tracer prints them
      *
      * @return a code of characters sequence
      * @since 1.0
      */
     private BigDecimal marking(Map<Character, ArithmeticEncodingDecimal.Properties> map, char[] message,
-                               Map<Character, Double> probabilities, int currentLetter) {
-        BigDecimal code;
-        BigDecimal higher = map.get(message[currentLetter]).higherBorder;
-        BigDecimal lower = map.get(message[currentLetter]).lowerBorder;
-        for (var i : probabilities.keySet()) {
-            map.get(i).higherBorder = lower.add((higher.subtract(lower)).multiply(map.get(i).startHigherBorder));
-            map.get(i).lowerBorder = lower.add((higher.subtract(lower)).multiply(map.get(i).startLowerBorder));
+                               Map<Character, Double> probabilities) {
+        if (message.length == 0) {
+            return BigDecimal.ZERO;
         }
 
-        printUtil.println("step " + currentLetter);
-        for (var i : map.entrySet()) {
-            printUtil.println(i.getKey() + " : " + i.getValue().lowerBorder
-                    + " / " + i.getValue().higherBorder
-                    + " / " + i.getValue().probability);
-        }
+        BigDecimal higher = map.get(message[0]).higherBorder;
+        BigDecimal lower = map.get(message[0]).lowerBorder;
 
-        if (currentLetter < message.length - 1) {
-            code = marking(map, message, probabilities, currentLetter + 1);
-        } else {
-            BigDecimal littleRest = map.get(message[currentLetter]).lowerBorder
-                    .divide(new BigDecimal(10).pow(message.length));
-            code = map.get(message[currentLetter]).lowerBorder
-                    .add(littleRest);
-        }
+        for (int currentLetter = 0; ; currentLetter++) {
+            if (tracer.isEnabled()) {
+                for (var i : probabilities.keySet()) {
+                    map.get(i).higherBorder = lower.add((higher.subtract(lower))
+                            .multiply(map.get(i).startHigherBorder));
+                    map.get(i).lowerBorder = lower.add((higher.subtract(lower))
+                            .multiply(map.get(i).startLowerBorder));
+                }
+                tracer.getPrintUtil().println("step " + currentLetter);
+                for (var i : map.entrySet()) {
+                    tracer.getPrintUtil().println(i.getKey() + " : " + i.getValue().lowerBorder
+                            + " / " + i.getValue().higherBorder
+                            + " / " + i.getValue().probability);
+                }
+            }
 
-        return code;
+            char letter = message[Math.min(currentLetter + 1, message.length - 1)];
+            BigDecimal nextHigher = lower.add((higher.subtract(lower)).multiply(map.get(letter).startHigherBorder));
+            BigDecimal nextLower = lower.add((higher.subtract(lower)).multiply(map.get(letter).startLowerBorder));
+
+            if (currentLetter == message.length - 1) {
+                BigDecimal littleRest = nextLower.divide(new BigDecimal(10).pow(message.length));
+                return nextLower.add(littleRest);
+            }
+
+            higher = nextHigher;
+            lower = nextLower;
+        }
     }
 
     private static class Properties {
@@ -0,0 +1,194 @@
+package crypto.compress;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The current interval of the streaming arithmetic coding with a fixed number of decimal digits.
+ * The lower border and the width are kept with the scale of the precision of a given math context
+ * and every narrowing is rounded to the floor, so the encoder and the decoder calculate the same borders.
+ * When the first digit of all numbers of the interval is settled the interval is scaled by ten.
+ * If the interval becomes too narrow while it lies across a digit boundary it is clamped to the larger part
+ *
+ * @since 1.4
+ */
+final class DecimalInterval {
+
+    private final char[] chars;
+    private final BigDecimal[] cumulativeProbabilities;
+    private final Map<Character, Integer> indexes;
+    private final int precision;
+    private final BigDecimal ulp;
+    private final BigDecimal minWidth;
+    private BigDecimal lowerBorder;
+    private BigDecimal width;
+
+    DecimalInterval(Map<Character, Double> probabilities, MathContext mathContext) {
+        if (mathContext.getPrecision() < 2) {
+            throw new IllegalArgumentException("precision should be at least 2");
+        }
+
+        List<Map.Entry<Character, Double>> letters = new ArrayList<>(probabilities.entrySet());
+        letters.sort(Map.Entry.<Character, Double>comparingByValue().thenComparing(Map.Entry.comparingByKey()));
+
+        this.precision = mathContext.getPrecision();
+        this.ulp = BigDecimal.ONE.movePointLeft(precision);
+        this.minWidth = BigDecimal.ONE.movePointLeft(precision / 2);
+        this.chars = new char[letters.size()];
+        this.cumulativeProbabilities = new BigDecimal[letters.size() + 1];
+        this.indexes = new HashMap<>();
+
+        BigDecimal sum = BigDecimal.ZERO;
+        BigDecimal[] sums = new BigDecimal[letters.size() + 1];
+        sums[0] = sum;
+        for (int i = 0; i < letters.size(); i++) {
+            chars[i] = letters.get(i).getKey();
+            indexes.put(chars[i], i);
+            sum = sum.add(BigDecimal.valueOf(letters.get(i).getValue()));
+            sums[i + 1] = sum;
+        }
+        if (!letters.isEmpty() && sum.signum() <= 0) {
+            throw new IllegalArgumentException("sum of probabilities should be positive");
+        }
+        for (int i = 0; i < sums.length; i++) {
+            cumulativeProbabilities[i] = letters.isEmpty() ? sums[i]
+                    : sums[i].divide(sum, precision + 2, RoundingMode.FLOOR);
+        }
+
+        this.lowerBorder = BigDecimal.ZERO.setScale(precision);
+        this.width = BigDecimal.ONE.setScale(precision);
+    }
+
+    /**
+     * @return an index of a given character or -1 if there is no probability of the character
+     */
+    int getIndex(char c) {
+        return indexes.getOrDefault(c, -1);
+    }
+
+    char getChar(int index) {
+        return chars[index];
+    }
+
+    BigDecimal getLowerBorder() {
+        return lowerBorder;
+    }
+
+    BigDecimal getHigherBorder() {
+        return lowerBorder.add(width);
+    }
+
+    /**
+     * @return a lower border of the part of a character with a given index inside the interval
+     */
+    private BigDecimal getLowerBorder(int index) {
+        if (index == 0) {
+            return lowerBorder;
+        }
+        if (index == chars.length) {
+            return lowerBorder.add(width);
+        }
+
+        return lowerBorder.add(width.multiply(cumulativeProbabilities[index]).setScale(precision, RoundingMode.FLOOR));
+    }
+
+    /**
+     * Narrow the interval to the part of a character with a given index
+     *
+     * @throws ArithmeticException if the part is empty because the precision is not enough
+     */
+    void narrow(int index) {
+        BigDecimal lower = getLowerBorder(index);
+        BigDecimal higher = getLowerBorder(index + 1);
+
+        if (higher.compareTo(lower) <= 0) {
+            throw new ArithmeticException("precision " + precision + " is not enough for char " + chars[index]);
+        }
+
+        lowerBorder = lower;
+        width = higher.subtract(lower);
+    }
+
+    /**
+     * @return an index of the character which part contains a given code
+     */
+    int findIndex(BigDecimal code) {
+        int lower = 0;
+        int higher = chars.length - 1;
+
+        while (lower < higher) {
+            int middle = (lower + higher + 1) >>> 1;
+            if (getLowerBorder(middle).compareTo(code) <= 0) {
+                lower = middle;
+            } else {
+                higher = middle - 1;
+            }
+        }
+
+        return lower;
+    }
+
+    /**
+     * @return the first digit of all numbers of the interval or -1 if the digit is not settled
+     */
+    int getSettledDigit() {
+        int first = firstDigit(lowerBorder);
+
+        return first == firstDigit(lowerBorder.add(width).subtract(ulp)) ? first : -1;
+    }
+
+    /**
+     * Remove a settled first digit and scale the interval by ten
+     */
+    void shift(int digit) {
+        lowerBorder = lowerBorder.movePointRight(1).subtract(BigDecimal.valueOf(digit)).setScale(precision);
+        width = width.movePointRight(1).setScale(precision);
+    }
+
+    /**
+     * @return true if the interval is narrower than a half of the digits
+     */
+    boolean isNarrow() {
+        return width.compareTo(minWidth) < 0;
+    }
+
+    /**
+     * Keep the larger part of the interval on one side of the digit boundary that lies inside the interval
+     */
+    void clamp() {
+        BigDecimal boundary = BigDecimal.valueOf(firstDigit(lowerBorder) + 1).movePointLeft(1).setScale(precision);
+        BigDecimal higherBorder = lowerBorder.add(width);
+
+        if (boundary.subtract(lowerBorder).compareTo(higherBorder.subtract(boundary)) >= 0) {
+            width = boundary.subtract(lowerBorder);
+        } else {
+            lowerBorder = boundary;
+            width = higherBorder.subtract(boundary);
+        }
+    }
+
+    /**
+     * @return the shortest number of the interval rounded up from the lower border
+     */
+    BigDecimal getShortestCode() {
+        BigDecimal higherBorder = lowerBorder.add(width);
+
+        for (int scale = 0; scale < precision; scale++) {
+            BigDecimal code = lowerBorder.setScale(scale, RoundingMode.CEILING);
+            if (code.compareTo(higherBorder) < 0) {
+                return code;
+            }
+        }
+
+        return lowerBorder;
+    }
+
+    private static int firstDigit(BigDecimal value) {
+        return value.movePointRight(1).setScale(0, RoundingMode.FLOOR).intValue();
+    }
+}
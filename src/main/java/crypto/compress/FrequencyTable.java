@@ -0,0 +1,214 @@
+package crypto.compress;
+
+import crypto.util.VarLongUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Integer frequencies of characters for the range coding.
+ * Weights of characters are quantized so that the total frequency is not more than
+ * {@link #MAX_TOTAL_FREQUENCY} and every character keeps a frequency of at least one.
+ * Characters are sorted in ascending order, a character with index i owns the cumulative frequencies
+ * from {@code getCumulativeFrequency(i)} to {@code getCumulativeFrequency(i + 1)}
+ *
+ * @since 1.4
+ */
+public final class FrequencyTable {
+
+    public static final int MAX_TOTAL_FREQUENCY = 1 << 16;
+
+    private static final int NO_INDEX = -1;
+
+    private final char[] chars;
+    private final int[] cumulativeFrequencies;
+    private final int[] indexes;
+
+    /**
+     * @param weights probabilities or numbers of occurrences of characters
+     */
+    public FrequencyTable(Map<Character, ? extends Number> weights) {
+        Map<Character, ? extends Number> sortedWeights = new TreeMap<>(weights);
+        int numberOfChars = sortedWeights.size();
+        double sum = 0;
+
+        if (numberOfChars > MAX_TOTAL_FREQUENCY) {
+            throw new IllegalArgumentException("number of chars should not be more than " + MAX_TOTAL_FREQUENCY);
+        }
+        for (Number weight : sortedWeights.values()) {
+            if (!(weight.doubleValue() >= 0)) {
+                throw new IllegalArgumentException("weights should not be negative");
+            }
+            sum += weight.doubleValue();
+        }
+
+        int[] frequencies = new int[numberOfChars];
+        int i = 0;
+
+        this.chars = new char[numberOfChars];
+        for (Map.Entry<Character, ? extends Number> entry : sortedWeights.entrySet()) {
+            chars[i] = entry.getKey();
+            frequencies[i] = sum == 0 ? 1 : Math.max(1,
+                    (int) (entry.getValue().doubleValue() / sum * (MAX_TOTAL_FREQUENCY - numberOfChars)));
+            i++;
+        }
+
+        this.cumulativeFrequencies = accumulate(frequencies);
+        this.indexes = buildIndexes(chars);
+    }
+
+    private FrequencyTable(char[] chars, int[] frequencies) {
+        this.chars = chars;
+        this.cumulativeFrequencies = accumulate(frequencies);
+        this.indexes = buildIndexes(chars);
+    }
+
+    /**
+     * Count characters of a given message
+     *
+     * @return a table with frequencies of characters of the message
+     * @since 1.4
+     */
+    public static FrequencyTable fromMessage(CharSequence message) {
+        int[] counts = new int[1 << Byte.SIZE];
+        Map<Character, Integer> frequencies = new TreeMap<>();
+
+        for (int i = 0; i < message.length(); i++) {
+            char c = message.charAt(i);
+            if (c >= counts.length) {
+                counts = Arrays.copyOf(counts, Character.MAX_VALUE + 1);
+            }
+            counts[c]++;
+        }
+        for (int c = 0; c < counts.length; c++) {
+            if (counts[c] > 0) {
+                frequencies.put((char) c, counts[c]);
+            }
+        }
+
+        return new FrequencyTable(frequencies);
+    }
+
+    /**
+     * Read a table which has been written by {@link #write(OutputStream)}
+     *
+     * @return a frequency table
+     * @since 1.4
+     */
+    public static FrequencyTable read(InputStream stream) throws IOException {
+        long numberOfChars = VarLongUtil.read(stream);
+
+        if (numberOfChars < 0 || numberOfChars > MAX_TOTAL_FREQUENCY) {
+            throw new IOException("the frequency table is damaged");
+        }
+
+        char[] chars = new char[(int) numberOfChars];
+        int[] frequencies = new int[chars.length];
+        long c = 0;
+        long totalFrequency = 0;
+
+        for (int i = 0; i < chars.length; i++) {
+            long difference = VarLongUtil.read(stream);
+            long frequency = VarLongUtil.read(stream) + 1;
+            if (difference < 0 || frequency < 1) {
+                throw new IOException("the frequency table is damaged");
+            }
+            c += difference + (i == 0 ? 0 : 1);
+            totalFrequency += frequency;
+            if (c > Character.MAX_VALUE || totalFrequency > MAX_TOTAL_FREQUENCY) {
+                throw new IOException("the frequency table is damaged");
+            }
+            chars[i] = (char) c;
+            frequencies[i] = (int) frequency;
+        }
+
+        return new FrequencyTable(chars, frequencies);
+    }
+
+    /**
+     * Write the number of characters and, for every character, the distance from the previous character
+     * with its frequency as numbers of {@link VarLongUtil}
+     *
+     * @since 1.4
+     */
+    public void write(OutputStream stream) throws IOException {
+        VarLongUtil.write(stream, chars.length);
+        for (int i = 0; i < chars.length; i++) {
+            VarLongUtil.write(stream, i == 0 ? chars[0] : chars[i] - chars[i - 1] - 1);
+            VarLongUtil.write(stream, getFrequency(i) - 1);
+        }
+    }
+
+    private static int[] accumulate(int[] frequencies) {
+        int[] cumulativeFrequencies = new int[frequencies.length + 1];
+
+        for (int i = 0; i < frequencies.length; i++) {
+            cumulativeFrequencies[i + 1] = cumulativeFrequencies[i] + frequencies[i];
+        }
+
+        return cumulativeFrequencies;
+    }
+
+    private static int[] buildIndexes(char[] chars) {
+        int[] indexes = new int[chars.length == 0 ? 0 : chars[chars.length - 1] + 1];
+
+        Arrays.fill(indexes, NO_INDEX);
+        for (int i = 0; i < chars.length; i++) {
+            indexes[chars[i]] = i;
+        }
+
+        return indexes;
+    }
+
+    public int getNumberOfChars() {
+        return chars.length;
+    }
+
+    public char getChar(int index) {
+        return chars[index];
+    }
+
+    /**
+     * @return an index of a given character or -1 if the table does not contain it
+     * @since 1.4
+     */
+    public int getIndex(char c) {
+        return c < indexes.length ? indexes[c] : NO_INDEX;
+    }
+
+    public int getFrequency(int index) {
+        return cumulativeFrequencies[index + 1] - cumulativeFrequencies[index];
+    }
+
+    public int getCumulativeFrequency(int index) {
+        return cumulativeFrequencies[index];
+    }
+
+    public int getTotalFrequency() {
+        return cumulativeFrequencies[chars.length];
+    }
+
+    /**
+     * @return an index of the character which owns a given cumulative frequency
+     * @since 1.4
+     */
+    public int findIndex(int cumulativeFrequency) {
+        int lower = 0;
+        int higher = chars.length - 1;
+
+        while (lower < higher) {
+            int middle = (lower + higher + 1) >>> 1;
+            if (cumulativeFrequencies[middle] <= cumulativeFrequency) {
+                lower = middle;
+            } else {
+                higher = middle - 1;
+            }
+        }
+
+        return lower;
+    }
+}
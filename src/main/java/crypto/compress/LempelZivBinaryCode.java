@@ -0,0 +1,161 @@
+package crypto.compress;
+
+import crypto.util.VarLongUtil;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * Compress messages by {@link LempelZivEngine} into a binary form.
+ * The compressed form starts with the window size, then every token is written as numbers of {@link VarLongUtil}:
+ * the length of the sequence, the distance to the sequence if the length is not zero
+ * and the next character plus one. The character zero ends the data
+ *
+ * @since 1.4
+ */
+public final class LempelZivBinaryCode {
+
+    public static final int MAX_WINDOW_SIZE = 1 << 20;
+    public static final int MAX_MATCH_LENGTH = 258;
+    public static final int MAX_CHAIN_LENGTH = 64;
+
+    private static final int BUFFER_SIZE = 1 << 13;
+
+    private final LempelZivEngine engine;
+
+    /**
+     * @param windowSize from 32 KB to 1 MB gives real compression ratios
+     */
+    public LempelZivBinaryCode(int windowSize) {
+        if (windowSize < 1 || windowSize > MAX_WINDOW_SIZE) {
+            throw new IllegalArgumentException("window size should be from 1 to " + MAX_WINDOW_SIZE);
+        }
+
+        this.engine = new LempelZivEngine(windowSize, MAX_MATCH_LENGTH, MAX_CHAIN_LENGTH);
+    }
+
+    /**
+     * @return a compressed message
+     * @since 1.4
+     */
+    public byte[] compress(String message) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try {
+            compress(message, outputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Compress a given message into a given stream
+     *
+     * @since 1.4
+     */
+    public void compress(String message, OutputStream outputStream) throws IOException {
+        OutputStream bufferedStream = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+        int[] lastLiteral = {0};
+
+        VarLongUtil.write(bufferedStream, engine.getWindowSize());
+        engine.compress(message.toCharArray(), (distance, length, literal) -> {
+            VarLongUtil.write(bufferedStream, length);
+            if (length > 0) {
+                VarLongUtil.write(bufferedStream, distance);
+            }
+            VarLongUtil.write(bufferedStream, literal + 1);
+            lastLiteral[0] = literal;
+        });
+
+        if (lastLiteral[0] != LempelZivEngine.NO_LITERAL) {
+            VarLongUtil.write(bufferedStream, 0);
+            VarLongUtil.write(bufferedStream, 0);
+        }
+
+        bufferedStream.flush();
+    }
+
+    /**
+     * @return a decompressed message
+     * @since 1.4
+     */
+    public String decompress(byte[] compressedMessage) {
+        StringWriter writer = new StringWriter();
+
+        try {
+            decompress(new ByteArrayInputStream(compressedMessage), writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return writer.toString();
+    }
+
+    /**
+     * Decompress a given stream into a given writer keeping only the window in memory.
+     * The stream is read ahead through a buffer, so bytes after the compressed data may be consumed
+     *
+     * @since 1.4
+     */
+    public void decompress(InputStream inputStream, Writer writer) throws IOException {
+        InputStream bufferedStream = new BufferedInputStream(inputStream, BUFFER_SIZE);
+        long windowSize = VarLongUtil.read(bufferedStream);
+
+        if (windowSize < 1 || windowSize > MAX_WINDOW_SIZE) {
+            throw new IOException("the window size is damaged");
+        }
+
+        char[] window = new char[Integer.highestOneBit((int) windowSize - 1 | 1) << 1];
+        int mask = window.length - 1;
+        char[] output = new char[BUFFER_SIZE];
+        int outputLength = 0;
+        long position = 0;
+
+        while (true) {
+            long length = VarLongUtil.read(bufferedStream);
+            long distance = length > 0 ? VarLongUtil.read(bufferedStream) : 0;
+            long literal = VarLongUtil.read(bufferedStream) - 1;
+
+            if (distance > windowSize || distance > position || length > 0 && distance == 0
+                    || literal > Character.MAX_VALUE) {
+                throw new IOException("the compressed data is damaged");
+            }
+
+            for (long i = 0; i <= length; i++) {
+                char c;
+                if (i < length) {
+                    c = window[(int) (position - distance) & mask];
+                } else if (literal >= 0) {
+                    c = (char) literal;
+                } else {
+                    break;
+                }
+
+                window[(int) position & mask] = c;
+                position++;
+                output[outputLength++] = c;
+                if (outputLength == output.length) {
+                    writer.write(output, 0, outputLength);
+                    outputLength = 0;
+                }
+            }
+
+            if (literal < 0) {
+                break;
+            }
+        }
+
+        writer.write(output, 0, outputLength);
+        writer.flush();
+    }
+}
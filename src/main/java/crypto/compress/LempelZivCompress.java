@@ -1,66 +1,93 @@
 package crypto.compress;
 
-import crypto.util.PrintUtil;
+import crypto.util.Tracer;
 
+import java.io.IOException;
 import java.io.PrintStream;
+import java.io.UncheckedIOException;
 
 public final class LempelZivCompress {
 
-    private final PrintUtil printUtil;
+    private final Tracer tracer;
 
     public LempelZivCompress(PrintStream stream) {
-        printUtil = new PrintUtil(stream);
+        this(Tracer.verbose(stream));
+    }
+
+    /**
+     * @param tracer prints the message, the buffer and the dictionary on every step
+     * @since 1.4
+     */
+    public LempelZivCompress(Tracer tracer) {
+        this.tracer = tracer;
     }
 
     /**
      * Compress a given message by the Lempel and Ziv way.
+     * Triads are found by {@link LempelZivEngine#firstOccurrence(int)}
      *
-     * @param capacity should not be more than 9
+     * @param capacity should not be more than 9, {@link LempelZivBinaryCode} has no such limit
      * @return a compressed message
      * @since 1.0
      */
     public String compress(String message, int capacity) {
-        int bufferCapacity = capacity;
-        int dictionaryCapacity = capacity;
-        char[] dictionary = new char[dictionaryCapacity];
-        char[] buffer = new char[bufferCapacity];
         char[] messageChars = message.toCharArray();
         StringBuilder encodedMessage = new StringBuilder();
+        int[] position = new int[1];
 
-        fillBuffer(buffer, messageChars);
-
-        printUtil.println("Start compressing");
-
-        while (buffer[0] != 0) {
-            int p;
-            int q = 0;
-            char c = buffer[0];
-            if ((p = hasChar(dictionary, buffer[0])) != 0) {
-                q = getSequenceLength(dictionary, buffer, p - 1);
-                int i = 0;
-                do {
-                    shiftLeft(dictionary, buffer, messageChars);
-                    i++;
-                } while (i < q);
-                c = buffer[0];
-            }
-
-            encodedMessage.append(p);
-            encodedMessage.append(q);
-            encodedMessage.append(c);
+        if (tracer.isEnabled()) {
+            tracer.getPrintUtil().println("Start compressing");
+        }
 
-            shiftLeft(dictionary, buffer, messageChars);
+        try {
+            LempelZivEngine.firstOccurrence(capacity).compress(messageChars, (distance, length, literal) -> {
+                encodedMessage.append(distance == 0 ? 0 : capacity - distance + 1);
+                encodedMessage.append(length);
+                encodedMessage.append(literal == LempelZivEngine.NO_LITERAL ? '\0' : (char) literal);
+                position[0] += length + 1;
 
-            printUtil.print("Message: ").printArray(messageChars).println()
-                    .print("Buffer: ").printArray(buffer).println()
-                    .print("Dictionary: ").printArray(dictionary).println()
-                    .print("Encoded message: ").print(encodedMessage.toString()).println()
-                    .println();
+                if (tracer.isEnabled()) {
+                    traceCompressing(messageChars, position[0], capacity, encodedMessage);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
 
         return encodedMessage.toString();
     }
 
+    /**
+     * Print the rest of the message, the buffer and the dictionary as they are placed
+     * when a given number of characters has been compressed
+     *
+     * @since 1.4
+     */
+    private void traceCompressing(char[] message, int position, int capacity, StringBuilder encodedMessage) {
+        char[] rest = new char[message.length];
+        char[] buffer = new char[capacity];
+        char[] dictionary = new char[capacity];
+
+        for (int i = position + capacity; i < message.length; i++) {
+            rest[i - position - capacity] = message[i];
+        }
+        for (int i = 0; i < capacity && position + i < message.length; i++) {
+            buffer[i] = message[position + i];
+        }
+        for (int i = 0; i < capacity; i++) {
+            int j = position - capacity + i;
+            if (j >= 0 && j < message.length) {
+                dictionary[i] = message[j];
+            }
+        }
+
+        tracer.getPrintUtil().print("Message: ").printArray(rest).println()
+                .print("Buffer: ").printArray(buffer).println()
+                .print("Dictionary: ").printArray(dictionary).println()
+                .print("Encoded message: ").print(encodedMessage.toString()).println()
+                .println();
+    }
+
     /**
      * Decompress a given message by the Lempel and Ziv way.
      *
@@ -73,7 +100,9 @@ public final class LempelZivCompress {
         char[] messageChars = message.toCharArray();
         char[] buffer = new char[bufferCapacity];
 
-        printUtil.println("Start decompressing");
+        if (tracer.isEnabled()) {
+            tracer.getPrintUtil().println("Start decompressing");
+        }
 
         while (messageChars[0] != '\0') {
             int p = Integer.parseInt(Character.toString(messageChars[0]));
@@ -82,9 +111,11 @@ public final class LempelZivCompress {
 
             decodeTriadInBuffer(buffer, messageChars, decodedMessage, p, q, c);
 
-            printUtil.print("Message: ").printArray(messageChars).println()
-                    .print("Buffer: ").printArray(buffer).println()
-                    .println();
+            if (tracer.isEnabled()) {
+                tracer.getPrintUtil().print("Message: ").printArray(messageChars).println()
+                        .print("Buffer: ").printArray(buffer).println()
+                        .println();
+            }
         }
 
         while (buffer[0] != '\0') {
@@ -94,77 +125,6 @@ public final class LempelZivCompress {
         return decodedMessage.toString();
     }
 
-    /**
-     * @return a position of the symbol in the buffer
-     * @since 1.0
-     */
-    private int hasChar(char[] array, char symbol) {
-        for (int i = 0; i < array.length; i++) {
-            if (array[i] == symbol) {
-                return i + 1;
-            }
-        }
-        return 0;
-    }
-
-    /**
-     * @return a length of sequence of the buffer in the dictionary
-     * @since 1.0
-     */
-    private int getSequenceLength(char[] dictionary, char[] buffer, int currentPosition) {
-        for (int i = 0; currentPosition + i < dictionary.length; i++) {
-            if (dictionary[currentPosition + i] != buffer[i]) {
-                return i;
-            }
-            if (currentPosition + i == dictionary.length - 1)
-                return i + 1;
-        }
-        return 0;
-    }
-
-    /**
-     * Fill the buffer with characters of a given message
-     *
-     * @since 1.0
-     */
-    private void fillBuffer(char[] buffer, char[] message) {
-        for (int i = 0; i < buffer.length; i++) {
-            buffer[i] = message[0];
-            for (int j = 1; j < message.length; j++) {
-                message[j - 1] = message[j];
-                if (j == message.length - 1) {
-                    message[j] = 0;
-                }
-            }
-        }
-    }
-
-    /**
-     * Shift to the left three containers of the characters with moving the characters towards each other
-     *
-     * @since 1.0
-     */
-    private void shiftLeft(char[] dictionary, char[] buffer, char[] message) {
-        for (int j = 1; j < dictionary.length; j++) {
-            dictionary[j - 1] = dictionary[j];
-            if (j == dictionary.length - 1) {
-                dictionary[j] = buffer[0];
-            }
-        }
-        for (int j = 1; j < buffer.length; j++) {
-            buffer[j - 1] = buffer[j];
-            if (j == buffer.length - 1) {
-                buffer[j] = message[0];
-            }
-        }
-        for (int j = 1; j < message.length; j++) {
-            message[j - 1] = message[j];
-            if (j == message.length - 1) {
-                message[j] = 0;
-            }
-        }
-    }
-
     /**
      * Shift to the left three containers of the characters with moving the characters towards each other
      *
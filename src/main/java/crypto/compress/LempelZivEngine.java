@@ -0,0 +1,192 @@
+package crypto.compress;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Find repeated sequences of a message by the LZ77 way and describe the message as tokens
+ * of a distance back to a sequence, a length of the sequence and the next character.
+ * Positions of the window are kept in a hash table of prefixes with chains of previous positions,
+ * the chains are stored in a circular array indexed by a position modulo the window size
+ *
+ * @since 1.4
+ */
+public final class LempelZivEngine {
+
+    public static final int NO_LITERAL = -1;
+
+    private static final int HASH_BITS = 15;
+    private static final int HASH_MULTIPLIER = 0x9E3779B1;
+
+    /**
+     * A way to choose a sequence among the positions with the same prefix
+     *
+     * @since 1.4
+     */
+    public enum MatchStrategy {
+        /**
+         * the longest sequence, the nearest one if there are several
+         */
+        LONGEST,
+        /**
+         * the farthest position of the window which starts with the same character
+         */
+        FIRST_OCCURRENCE
+    }
+
+    /**
+     * Receives tokens of a compressed message
+     *
+     * @since 1.4
+     */
+    public interface TokenSink {
+        /**
+         * @param distance a distance back to the sequence or zero if there is no sequence
+         * @param length   a length of the sequence
+         * @param literal  a character after the sequence or {@link #NO_LITERAL} if the message is ended
+         */
+        void accept(int distance, int length, int literal) throws IOException;
+    }
+
+    private final int windowSize;
+    private final int maxMatchLength;
+    private final int prefixLength;
+    private final int maxChainLength;
+    private final MatchStrategy strategy;
+    private final boolean isOverlapAllowed;
+
+    /**
+     * An engine which looks for the longest sequences that start with the same three characters
+     *
+     * @param maxChainLength a number of positions with the same prefix which are compared at most
+     */
+    public LempelZivEngine(int windowSize, int maxMatchLength, int maxChainLength) {
+        this(windowSize, maxMatchLength, 3, maxChainLength, MatchStrategy.LONGEST, true);
+    }
+
+    private LempelZivEngine(int windowSize, int maxMatchLength, int prefixLength, int maxChainLength,
+                            MatchStrategy strategy, boolean isOverlapAllowed) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("window size should be positive");
+        }
+        if (maxMatchLength < prefixLength) {
+            throw new IllegalArgumentException("max match length should be at least " + prefixLength);
+        }
+        if (maxChainLength < 1) {
+            throw new IllegalArgumentException("max chain length should be positive");
+        }
+
+        this.windowSize = windowSize;
+        this.maxMatchLength = maxMatchLength;
+        this.prefixLength = prefixLength;
+        this.maxChainLength = maxChainLength;
+        this.strategy = strategy;
+        this.isOverlapAllowed = isOverlapAllowed;
+    }
+
+    /**
+     * An engine that gives the same triads as the dictionary and the buffer of a given capacity
+     * in {@link LempelZivCompress#compress(String, int)}: the farthest character of the window equal
+     * to the next character starts a sequence which does not go beyond the window
+     *
+     * @return an engine
+     * @since 1.4
+     */
+    public static LempelZivEngine firstOccurrence(int capacity) {
+        return new LempelZivEngine(capacity, capacity, 1, capacity, MatchStrategy.FIRST_OCCURRENCE, false);
+    }
+
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    public int getMaxMatchLength() {
+        return maxMatchLength;
+    }
+
+    /**
+     * Describe a given message as tokens
+     *
+     * @since 1.4
+     */
+    public void compress(char[] message, TokenSink sink) throws IOException {
+        int[] heads = new int[1 << HASH_BITS];
+        int[] previousPositions = new int[Integer.highestOneBit(Math.max(1, windowSize - 1)) << 1];
+        int mask = previousPositions.length - 1;
+        int position = 0;
+
+        Arrays.fill(heads, -1);
+
+        while (position < message.length) {
+            int distance = 0;
+            int length = 0;
+
+            if (position + prefixLength <= message.length) {
+                int limit = Math.min(maxMatchLength, message.length - position);
+                int candidate = heads[hash(message, position)];
+                int farthestCandidate = -1;
+
+                for (int chain = 0; candidate >= 0 && position - candidate <= windowSize && chain < maxChainLength;
+                     chain++) {
+                    if (strategy == MatchStrategy.FIRST_OCCURRENCE) {
+                        if (message[candidate] == message[position]) {
+                            farthestCandidate = candidate;
+                        }
+                    } else {
+                        int candidateLength = getMatchLength(message, candidate, position,
+                                isOverlapAllowed ? limit : Math.min(limit, position - candidate));
+                        if (candidateLength > length) {
+                            length = candidateLength;
+                            distance = position - candidate;
+                            if (length == limit) {
+                                break;
+                            }
+                        }
+                    }
+                    candidate = previousPositions[candidate & mask];
+                }
+
+                if (farthestCandidate >= 0) {
+                    distance = position - farthestCandidate;
+                    length = getMatchLength(message, farthestCandidate, position,
+                            isOverlapAllowed ? limit : Math.min(limit, distance));
+                }
+            }
+
+            if (length < prefixLength) {
+                distance = 0;
+                length = 0;
+            }
+
+            int next = position + length;
+            sink.accept(distance, length, next < message.length ? message[next] : NO_LITERAL);
+
+            for (int end = Math.min(next + 1, message.length - prefixLength + 1); position < end; position++) {
+                int hash = hash(message, position);
+                previousPositions[position & mask] = heads[hash];
+                heads[hash] = position;
+            }
+            position = next + 1;
+        }
+    }
+
+    private int hash(char[] message, int position) {
+        int value = 0;
+
+        for (int i = 0; i < prefixLength; i++) {
+            value = value * 31 + message[position + i];
+        }
+
+        return value * HASH_MULTIPLIER >>> (Integer.SIZE - HASH_BITS);
+    }
+
+    private static int getMatchLength(char[] message, int candidate, int position, int limit) {
+        int length = 0;
+
+        while (length < limit && message[candidate + length] == message[position + length]) {
+            length++;
+        }
+
+        return length;
+    }
+}
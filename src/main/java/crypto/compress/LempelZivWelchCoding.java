@@ -0,0 +1,231 @@
+package crypto.compress;
+
+import crypto.util.BitReader;
+import crypto.util.BitWriter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Compress streams of bytes by the Lempel, Ziv and Welch way.
+ * The dictionary is a trie kept in parallel arrays of the first child, the next sibling and the label of every code,
+ * codes from 0 to 255 are single bytes, {@link #CLEAR} resets the dictionary and {@link #END_OF_DATA} ends the data.
+ * Codes are written with the least number of bits that holds the largest code the decoder can meet,
+ * from 9 bits up to the max code length which is written in the first byte.
+ * When the dictionary is full it is reset and the code length returns to 9 bits
+ *
+ * @since 1.4
+ */
+public final class LempelZivWelchCoding {
+
+    public static final int CLEAR = 1 << Byte.SIZE;
+    public static final int END_OF_DATA = CLEAR + 1;
+    public static final int MIN_CODE_LENGTH = 9;
+    public static final int MAX_CODE_LENGTH = 20;
+    public static final int DEFAULT_CODE_LENGTH = 16;
+
+    private static final int FIRST_CODE = END_OF_DATA + 1;
+    private static final int NO_CODE = -1;
+    private static final int BUFFER_SIZE = 1 << 13;
+
+    private final int maxCodeLength;
+
+    public LempelZivWelchCoding() {
+        this(DEFAULT_CODE_LENGTH);
+    }
+
+    /**
+     * @param maxCodeLength a number of bits of the largest code, the dictionary holds 2^maxCodeLength codes
+     */
+    public LempelZivWelchCoding(int maxCodeLength) {
+        if (maxCodeLength < MIN_CODE_LENGTH || maxCodeLength > MAX_CODE_LENGTH) {
+            throw new IllegalArgumentException("max code length should be from " + MIN_CODE_LENGTH
+                    + " to " + MAX_CODE_LENGTH);
+        }
+
+        this.maxCodeLength = maxCodeLength;
+    }
+
+    /**
+     * Compress all bytes of a given input stream into a given output stream
+     *
+     * @since 1.4
+     */
+    public void encode(InputStream inputStream, OutputStream outputStream) throws IOException {
+        int dictionarySize = 1 << maxCodeLength;
+        int[] firstChildren = new int[dictionarySize];
+        int[] nextSiblings = new int[dictionarySize];
+        int[] labels = new int[dictionarySize];
+        BitWriter writer = new BitWriter(outputStream);
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int nextCode = FIRST_CODE;
+        int prefix = NO_CODE;
+        int length;
+
+        writer.write(maxCodeLength, Byte.SIZE);
+
+        while ((length = inputStream.read(buffer)) >= 0) {
+            for (int i = 0; i < length; i++) {
+                int label = buffer[i] & 0xFF;
+
+                if (prefix == NO_CODE) {
+                    prefix = label;
+                    continue;
+                }
+
+                int child = firstChildren[prefix];
+                while (child != 0 && labels[child] != label) {
+                    child = nextSiblings[child];
+                }
+                if (child != 0) {
+                    prefix = child;
+                    continue;
+                }
+
+                writer.write(prefix, getCodeLength(nextCode - 1, maxCodeLength));
+                if (nextCode < dictionarySize) {
+                    labels[nextCode] = label;
+                    firstChildren[nextCode] = 0;
+                    nextSiblings[nextCode] = firstChildren[prefix];
+                    firstChildren[prefix] = nextCode;
+                    nextCode++;
+                } else {
+                    writer.write(CLEAR, getCodeLength(nextCode, maxCodeLength));
+                    for (int code = 0; code < CLEAR; code++) {
+                        firstChildren[code] = 0;
+                    }
+                    nextCode = FIRST_CODE;
+                }
+                prefix = label;
+            }
+        }
+
+        if (prefix != NO_CODE) {
+            writer.write(prefix, getCodeLength(nextCode - 1, maxCodeLength));
+            writer.write(END_OF_DATA, getCodeLength(nextCode, maxCodeLength));
+        } else {
+            writer.write(END_OF_DATA, getCodeLength(nextCode - 1, maxCodeLength));
+        }
+
+        writer.finish();
+    }
+
+    /**
+     * Decompress a given input stream into a given output stream. The input stream is read ahead
+     * through a buffer, so bytes after the compressed data may be consumed
+     *
+     * @since 1.4
+     */
+    public void decode(InputStream inputStream, OutputStream outputStream) throws IOException {
+        BitReader reader = new BitReader(new BufferedInputStream(inputStream, BUFFER_SIZE));
+        int codeLength = (int) reader.read(Byte.SIZE);
+
+        if (codeLength < MIN_CODE_LENGTH || codeLength > MAX_CODE_LENGTH) {
+            throw new IOException("the max code length is damaged");
+        }
+
+        int dictionarySize = 1 << codeLength;
+        int[] prefixes = new int[dictionarySize];
+        int[] labels = new int[dictionarySize];
+        int[] lengths = new int[dictionarySize];
+        byte[] sequence = new byte[dictionarySize];
+        OutputStream bufferedStream = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+        int nextCode = FIRST_CODE;
+        int previousCode = NO_CODE;
+
+        for (int code = 0; code < CLEAR; code++) {
+            labels[code] = code;
+            lengths[code] = 1;
+        }
+
+        while (true) {
+            int code = (int) reader.read(getCodeLength(previousCode == NO_CODE ? nextCode - 1 : nextCode,
+                    codeLength));
+
+            if (code == END_OF_DATA) {
+                break;
+            }
+            if (code == CLEAR) {
+                nextCode = FIRST_CODE;
+                previousCode = NO_CODE;
+                continue;
+            }
+
+            boolean isNew = code == nextCode;
+            boolean isAdded = previousCode != NO_CODE && nextCode < dictionarySize;
+            if (code > nextCode || isNew && !isAdded) {
+                throw new IOException("the compressed data is damaged");
+            }
+
+            if (isAdded) {
+                prefixes[nextCode] = previousCode;
+                lengths[nextCode] = lengths[previousCode] + 1;
+            }
+
+            int length = lengths[code];
+            for (int position = length - 1, current = code; position >= 0; position--) {
+                sequence[position] = (byte) labels[current];
+                current = prefixes[current];
+            }
+
+            if (isAdded) {
+                labels[nextCode] = sequence[0] & 0xFF;
+                nextCode++;
+            }
+            if (isNew) {
+                sequence[length - 1] = sequence[0];
+            }
+            bufferedStream.write(sequence, 0, length);
+            previousCode = code;
+        }
+
+        bufferedStream.flush();
+    }
+
+    /**
+     * @return a number of bits of a given code but not less than 9 and not more than a given max code length
+     */
+    private static int getCodeLength(int largestCode, int maxCodeLength) {
+        int length = Integer.SIZE - Integer.numberOfLeadingZeros(largestCode);
+
+        return Math.max(MIN_CODE_LENGTH, Math.min(maxCodeLength, length));
+    }
+
+    /**
+     * @return compressed bytes
+     * @since 1.4
+     */
+    public byte[] encode(byte[] data) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try {
+            encode(new ByteArrayInputStream(data), outputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * @return decompressed bytes
+     * @since 1.4
+     */
+    public byte[] decode(byte[] encodedData) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try {
+            decode(new ByteArrayInputStream(encodedData), outputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return outputStream.toByteArray();
+    }
+}
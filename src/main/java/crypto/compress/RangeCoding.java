@@ -0,0 +1,116 @@
+package crypto.compress;
+
+import crypto.util.VarLongUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Arithmetic coding of messages of any length by the integer range coder.
+ * The encoded form is the number of characters, the {@link FrequencyTable} of the message
+ * and the bytes of {@link RangeEncoder}. Unlike {@link ArithmeticEncoding} and {@link ArithmeticEncodingDecimal}
+ * the time is linear and the memory does not depend on the length of a message
+ *
+ * @since 1.4
+ */
+public final class RangeCoding {
+
+    private static final int MAX_INITIAL_CAPACITY = 1 << 16;
+
+    /**
+     * Encode a given message by the frequencies of its characters
+     *
+     * @return an encoded message
+     * @since 1.4
+     */
+    public byte[] encode(String message) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try {
+            encode(message, FrequencyTable.fromMessage(message), outputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Encode a given message by a given frequency table into a given stream
+     *
+     * @throws IllegalArgumentException if the table does not contain a character of the message
+     * @since 1.4
+     */
+    public void encode(CharSequence message, FrequencyTable frequencyTable,
+                       OutputStream outputStream) throws IOException {
+        VarLongUtil.write(outputStream, message.length());
+        frequencyTable.write(outputStream);
+
+        RangeEncoder encoder = new RangeEncoder(outputStream);
+        int totalFrequency = frequencyTable.getTotalFrequency();
+
+        for (int i = 0; i < message.length(); i++) {
+            int index = frequencyTable.getIndex(message.charAt(i));
+            if (index < 0) {
+                throw new IllegalArgumentException("there is no frequency of char " + message.charAt(i));
+            }
+            encoder.encode(frequencyTable.getCumulativeFrequency(index), frequencyTable.getFrequency(index),
+                    totalFrequency);
+        }
+
+        encoder.finish();
+    }
+
+    /**
+     * Decode a message which has been encoded by {@link #encode(String)}
+     *
+     * @return a decoded message
+     * @since 1.4
+     */
+    public String decode(byte[] encodedMessage) {
+        try {
+            return decode(new ByteArrayInputStream(encodedMessage));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Decode a message from a given stream
+     *
+     * @return a decoded message
+     * @since 1.4
+     */
+    public String decode(InputStream inputStream) throws IOException {
+        long numberOfChars = VarLongUtil.read(inputStream);
+
+        if (numberOfChars < 0) {
+            throw new IOException("the length of the message is damaged");
+        }
+        if (numberOfChars > Integer.MAX_VALUE) {
+            throw new IOException("the message is too long");
+        }
+
+        FrequencyTable frequencyTable = FrequencyTable.read(inputStream);
+        StringBuilder decodedMessage = new StringBuilder((int) Math.min(numberOfChars, MAX_INITIAL_CAPACITY));
+
+        if (numberOfChars > 0 && frequencyTable.getNumberOfChars() == 0) {
+            throw new IOException("the frequency table is empty");
+        }
+
+        RangeDecoder decoder = new RangeDecoder(inputStream);
+        int totalFrequency = frequencyTable.getTotalFrequency();
+
+        for (long i = 0; i < numberOfChars; i++) {
+            int index = frequencyTable.findIndex(decoder.getFrequency(totalFrequency));
+            decoder.decode(frequencyTable.getCumulativeFrequency(index), frequencyTable.getFrequency(index));
+            decodedMessage.append(frequencyTable.getChar(index));
+        }
+
+        return decodedMessage.toString();
+    }
+}
@@ -0,0 +1,70 @@
+package crypto.compress;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Decode symbols which have been encoded by {@link RangeEncoder}.
+ * A symbol is found by {@link #getFrequency(int)} and then removed from the code by {@link #decode(int, int)}.
+ * Up to four missing bytes at the end of the stream are read as zeros, more missing bytes mean damaged data
+ *
+ * @since 1.4
+ */
+public final class RangeDecoder {
+
+    private static final int MAX_NUMBER_OF_MISSING_BYTES = 4;
+
+    private final InputStream stream;
+    private long code;
+    private long range;
+    private long r;
+    private int numberOfMissingBytes;
+
+    public RangeDecoder(InputStream stream) throws IOException {
+        this.stream = stream;
+        this.range = RangeEncoder.MAX_RANGE;
+
+        for (int i = 0; i < 5; i++) {
+            code = (code << Byte.SIZE | nextByte()) & RangeEncoder.MAX_RANGE;
+        }
+    }
+
+    /**
+     * @return a cumulative frequency that lies inside the part of the next symbol
+     * @since 1.4
+     */
+    public int getFrequency(int totalFrequency) {
+        r = range / totalFrequency;
+
+        return (int) Math.min(code / r, totalFrequency - 1);
+    }
+
+    /**
+     * Remove a symbol found by {@link #getFrequency(int)} from the code
+     *
+     * @since 1.4
+     */
+    public void decode(int cumulativeFrequency, int frequency) throws IOException {
+        code -= r * cumulativeFrequency;
+        range = r * frequency;
+
+        while (range < RangeEncoder.TOP) {
+            code = (code << Byte.SIZE | nextByte()) & RangeEncoder.MAX_RANGE;
+            range <<= Byte.SIZE;
+        }
+    }
+
+    private int nextByte() throws IOException {
+        int value = stream.read();
+
+        if (value >= 0) {
+            return value;
+        }
+        if (++numberOfMissingBytes > MAX_NUMBER_OF_MISSING_BYTES) {
+            throw new EOFException("the stream is ended before the end of data");
+        }
+
+        return 0;
+    }
+}
@@ -0,0 +1,74 @@
+package crypto.compress;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Encode symbols by narrowing an integer interval as the arithmetic coding does.
+ * The interval is kept as a 33-bit lower border with a 32-bit range, when the range becomes less than 2^24
+ * the top byte of the lower border is settled and written to the stream. A byte that may still be changed
+ * by a carry is held back with the number of following bytes 0xFF
+ *
+ * @since 1.4
+ */
+public final class RangeEncoder {
+
+    static final long TOP = 1L << 24;
+    static final long MAX_RANGE = 0xFFFFFFFFL;
+
+    private final OutputStream stream;
+    private long low;
+    private long range;
+    private int cache;
+    private long cacheSize;
+
+    public RangeEncoder(OutputStream stream) {
+        this.stream = stream;
+        this.range = MAX_RANGE;
+        this.cacheSize = 1;
+    }
+
+    /**
+     * Narrow the interval to a part of a symbol.
+     * The total frequency should not be more than {@link FrequencyTable#MAX_TOTAL_FREQUENCY}
+     *
+     * @since 1.4
+     */
+    public void encode(int cumulativeFrequency, int frequency, int totalFrequency) throws IOException {
+        long r = range / totalFrequency;
+
+        low += r * cumulativeFrequency;
+        range = r * frequency;
+
+        while (range < TOP) {
+            range <<= Byte.SIZE;
+            shiftLow();
+        }
+    }
+
+    /**
+     * Write the rest of the lower border, the stream is not closed
+     *
+     * @since 1.4
+     */
+    public void finish() throws IOException {
+        for (int i = 0; i < 5; i++) {
+            shiftLow();
+        }
+        stream.flush();
+    }
+
+    private void shiftLow() throws IOException {
+        if (low < 0xFF000000L || low > MAX_RANGE) {
+            int carry = (int) (low >>> 32);
+            int value = cache;
+            do {
+                stream.write(value + carry & 0xFF);
+                value = 0xFF;
+            } while (--cacheSize != 0);
+            cache = (int) (low >>> 24) & 0xFF;
+        }
+        cacheSize++;
+        low = (low & 0x00FFFFFFL) << Byte.SIZE;
+    }
+}
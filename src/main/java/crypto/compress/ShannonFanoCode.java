@@ -1,9 +1,19 @@
 package crypto.compress;
 
 import crypto.entropy.EntropyUtil;
+import crypto.util.BitReader;
+import crypto.util.BitWriter;
+import crypto.util.ByteBufferUtil;
 import crypto.util.PrintUtil;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -12,6 +22,8 @@ import java.util.stream.Collectors;
 
 public final class ShannonFanoCode {
 
+    private static final int MAX_INITIAL_CAPACITY = 1 << 16;
+
     private final PrintUtil printUtil;
 
     public ShannonFanoCode(PrintStream stream) {
@@ -82,25 +94,136 @@ public final class ShannonFanoCode {
     }
 
     /**
-     * Build a string replacing sequence of ones and zeros with its characters
+     * Build a string replacing sequence of ones and zeros with its characters.
+     * The characters are found by the lookup tables of {@link ShannonFanoDecoder}
      *
      * @return a decoded word
      * @since 1.0
      */
     public String decodeMessageByShannonFano(Map<Character, String> shannonFanoBinaryCodes, String message) {
-        StringBuilder decodedMessage = new StringBuilder();
-        StringBuilder buffer = new StringBuilder();
-        char[] messageChars = message.toCharArray();
+        return new ShannonFanoDecoder(shannonFanoBinaryCodes).decode(message);
+    }
+
+    /**
+     * Compress a message by the shannon fano codes built from frequencies of its characters
+     *
+     * @return the table of codes and the codes of the message as bits packed into bytes
+     * @since 1.4
+     */
+    public byte[] compress(String message) {
+        Map<Character, Integer> frequencies = new HashMap<>();
+        Map<Character, Double> probabilities = new HashMap<>();
 
         for (int i = 0; i < message.length(); i++) {
-            buffer.append(messageChars[i]);
-            if (shannonFanoBinaryCodes.containsValue(buffer.toString())) {
-                decodedMessage.append(shannonFanoBinaryCodes.keySet().stream()
-                        .filter(x -> shannonFanoBinaryCodes.get(x).equals(buffer.toString())).findFirst().orElse('^'));
-                buffer.delete(0, buffer.length());
-            }
+            frequencies.merge(message.charAt(i), 1, Integer::sum);
+        }
+        frequencies.forEach((key, value) -> probabilities.put(key, (double) value / message.length()));
+
+        return encodeMessage(getShannonFanoBinaryCodes(probabilities), message);
+    }
+
+    /**
+     * Write into bytes the table of codes and the codes of all characters of a given message
+     *
+     * @return an encoded message
+     * @since 1.4
+     */
+    public byte[] encodeMessage(Map<Character, String> shannonFanoBinaryCodes, String message) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try {
+            encodeMessage(shannonFanoBinaryCodes, message, outputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Write into a given buffer the table of codes and the codes of all characters of a given message
+     *
+     * @since 1.4
+     */
+    public void encodeMessage(Map<Character, String> shannonFanoBinaryCodes, String message, ByteBuffer destination) {
+        try {
+            encodeMessage(shannonFanoBinaryCodes, message, ByteBufferUtil.asOutputStream(destination));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write into a given stream the number of characters of a given message, the table of codes
+     * and the codes of all characters of the message
+     *
+     * @since 1.4
+     */
+    public void encodeMessage(Map<Character, String> shannonFanoBinaryCodes, String message,
+                              OutputStream outputStream) throws IOException {
+        ShannonFanoEncoder encoder = new ShannonFanoEncoder(shannonFanoBinaryCodes);
+        BitWriter writer = new BitWriter(outputStream);
+
+        writer.writeVarLong(message.length());
+        encoder.writeCodes(writer);
+        encoder.writeMessage(writer, message);
+        writer.finish();
+    }
+
+    /**
+     * Restore a message from the bytes that have been written by {@link #compress(String)}
+     * or {@link #encodeMessage(Map, String)}
+     *
+     * @return a decoded message
+     * @since 1.4
+     */
+    public String decompress(byte[] compressedMessage) {
+        try {
+            return decodeMessage(new ByteArrayInputStream(compressedMessage));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Restore a message from the remaining bytes of a given buffer
+     *
+     * @return a decoded message
+     * @since 1.4
+     */
+    public String decodeMessage(ByteBuffer source) {
+        try {
+            return decodeMessage(ByteBufferUtil.asInputStream(source));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Restore a message from a given stream. The stream is read ahead through a buffer,
+     * so bytes after the encoded message may be consumed
+     *
+     * @return a decoded message
+     * @since 1.4
+     */
+    public String decodeMessage(InputStream inputStream) throws IOException {
+        BitReader reader = new BitReader(inputStream);
+        long numberOfChars = reader.readVarLong();
+
+        if (numberOfChars < 0) {
+            throw new IOException("the length of the message is damaged");
+        }
+        if (numberOfChars > Integer.MAX_VALUE) {
+            throw new IOException("the message is too long");
+        }
+
+        ShannonFanoDecoder decoder = new ShannonFanoDecoder(ShannonFanoDecoder.readCodes(reader));
+        StringBuilder decodedMessage = new StringBuilder((int) Math.min(numberOfChars, MAX_INITIAL_CAPACITY));
+
+        for (long i = 0; i < numberOfChars; i++) {
+            decodedMessage.append(decoder.decodeChar(reader));
         }
 
         return decodedMessage.toString();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,260 @@
+package crypto.compress;
+
+import crypto.util.BitReader;
+import crypto.util.BitUtil;
+import crypto.util.BitWriter;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decode shannon fano codes by lookup tables built from a table of codes.
+ * The root table is indexed by the next ten bits of a message, an entry is a character with the length of its code,
+ * a link to a next level table for longer codes or zero if there is no code with such a prefix.
+ * Codes have to be prefix-free as the codes of {@link ShannonFanoCode} are
+ *
+ * @since 1.4
+ */
+public final class ShannonFanoDecoder {
+
+    public static final int MAX_TABLE_BITS = 10;
+
+    private static final int LENGTH_BITS = 5;
+    private static final int LENGTH_MASK = (1 << LENGTH_BITS) - 1;
+    private static final int TABLE_BITS_MASK = 0xF;
+    private static final int LINK = Integer.MIN_VALUE;
+    private static final int NO_CODE = 0;
+
+    private final int rootTableBits;
+    private final int charWithEmptyCode;
+    private int[] tables;
+    private int tablesLength;
+
+    public ShannonFanoDecoder(Map<Character, String> shannonFanoBinaryCodes) {
+        List<Map.Entry<Character, String>> codes = new ArrayList<>();
+        int charWithEmptyCode = -1;
+
+        for (Map.Entry<Character, String> entry : shannonFanoBinaryCodes.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                codes.add(entry);
+            } else {
+                charWithEmptyCode = entry.getKey();
+            }
+        }
+
+        this.charWithEmptyCode = codes.isEmpty() ? charWithEmptyCode : -1;
+        this.tables = new int[1 << MAX_TABLE_BITS];
+        this.rootTableBits = buildTable(codes, 0);
+    }
+
+    /**
+     * Read a table of codes which has been written by {@link ShannonFanoEncoder#writeCodes(BitWriter)}
+     *
+     * @return a map with sequence of characters
+     * @since 1.4
+     */
+    public static Map<Character, String> readCodes(BitReader reader) throws IOException {
+        Map<Character, String> shannonFanoBinaryCodes = new HashMap<>();
+        long numberOfCodes = reader.readVarLong();
+        long c = 0;
+
+        for (long i = 0; i < numberOfCodes; i++) {
+            long difference = reader.readVarLong();
+            long length = reader.readVarLong();
+            c += difference;
+            if (difference < 0 || c > Character.MAX_VALUE
+                    || length < 0 || length > ShannonFanoEncoder.MAX_CODE_LENGTH) {
+                throw new IOException("the table of codes is damaged");
+            }
+            long[] words = new long[BitUtil.getNumberOfWords((int) length)];
+            if (reader.read(words, (int) length) < length) {
+                throw new EOFException("the stream is ended inside the table of codes");
+            }
+            shannonFanoBinaryCodes.put((char) c, toBinaryString(words, (int) length));
+        }
+
+        return shannonFanoBinaryCodes;
+    }
+
+    private static String toBinaryString(long[] words, int length) {
+        char[] bits = new char[length];
+
+        for (int i = 0; i < length; i++) {
+            bits[i] = (char) ('0' + BitUtil.getBit(words, i));
+        }
+
+        return new String(bits);
+    }
+
+    /**
+     * Build a table for codes which have a common prefix of a given length and append it to the tables
+     *
+     * @return a number of bits that index the table
+     */
+    private int buildTable(List<Map.Entry<Character, String>> codes, int prefixLength) {
+        int maxLength = prefixLength + 1;
+
+        for (Map.Entry<Character, String> code : codes) {
+            maxLength = Math.max(maxLength, code.getValue().length());
+        }
+
+        int tableBits = Math.min(MAX_TABLE_BITS, maxLength - prefixLength);
+        int offset = allocate(1 << tableBits);
+        Map<Integer, List<Map.Entry<Character, String>>> longCodes = new LinkedHashMap<>();
+
+        codes.sort(Comparator.comparingInt((Map.Entry<Character, String> code) -> code.getValue().length())
+                .reversed());
+
+        for (Map.Entry<Character, String> code : codes) {
+            String bits = code.getValue();
+            int length = bits.length() - prefixLength;
+
+            if (length > tableBits) {
+                int index = parseBits(bits, prefixLength, tableBits);
+                longCodes.computeIfAbsent(index, k -> new ArrayList<>()).add(code);
+            } else {
+                int first = parseBits(bits, prefixLength, length) << (tableBits - length);
+                int entry = code.getKey() << LENGTH_BITS | length;
+                Arrays.fill(tables, offset + first, offset + first + (1 << (tableBits - length)), entry);
+            }
+        }
+
+        for (Map.Entry<Integer, List<Map.Entry<Character, String>>> group : longCodes.entrySet()) {
+            if (tables[offset + group.getKey()] == NO_CODE) {
+                int nextOffset = tablesLength;
+                int nextTableBits = buildTable(group.getValue(), prefixLength + tableBits);
+                tables[offset + group.getKey()] = LINK | nextOffset << 4 | nextTableBits;
+            }
+        }
+
+        return tableBits;
+    }
+
+    /**
+     * Reserve a given number of zero entries at the end of the tables
+     *
+     * @return an offset of the reserved entries
+     */
+    private int allocate(int size) {
+        if (tablesLength + size > tables.length) {
+            tables = Arrays.copyOf(tables, Math.max(tables.length * 2, tablesLength + size));
+        }
+
+        int offset = tablesLength;
+        tablesLength += size;
+
+        return offset;
+    }
+
+    private int parseBits(String bits, int offset, int length) {
+        int value = 0;
+
+        for (int i = 0; i < length; i++) {
+            value = value << 1 | (bits.charAt(offset + i) == '1' ? 1 : 0);
+        }
+
+        return value;
+    }
+
+    /**
+     * Decode a sequence of ones and zeros.
+     * Decoding stops on an incomplete code at the end of the sequence, on a prefix that does not belong to any code
+     * and on a character that is neither one nor zero
+     *
+     * @return a decoded message
+     * @since 1.4
+     */
+    public String decode(String message) {
+        int numberOfBits = 0;
+        long[] words = new long[BitUtil.getNumberOfWords(message.length()) + 1];
+
+        for (; numberOfBits < message.length(); numberOfBits++) {
+            char bit = message.charAt(numberOfBits);
+            if (bit == '1') {
+                BitUtil.setBit(words, numberOfBits);
+            } else if (bit != '0') {
+                break;
+            }
+        }
+
+        return decode(words, numberOfBits);
+    }
+
+    /**
+     * Decode a given number of packed bits.
+     * The array must have at least one word after the last bit, the table lookups read it
+     *
+     * @return a decoded message
+     */
+    private String decode(long[] words, int numberOfBits) {
+        StringBuilder decodedMessage = new StringBuilder(numberOfBits / 2);
+        int position = 0;
+        int offset = 0;
+        int tableBits = rootTableBits;
+
+        while (position < numberOfBits) {
+            int entry = tables[offset + (int) BitUtil.getBits(words, position, tableBits)];
+
+            if (entry == NO_CODE) {
+                break;
+            }
+            if ((entry & LINK) != 0) {
+                position += tableBits;
+                offset = (entry & ~LINK) >>> 4;
+                tableBits = entry & TABLE_BITS_MASK;
+                continue;
+            }
+
+            position += entry & LENGTH_MASK;
+            if (position > numberOfBits) {
+                break;
+            }
+            decodedMessage.append((char) (entry >>> LENGTH_BITS));
+            offset = 0;
+            tableBits = rootTableBits;
+        }
+
+        return decodedMessage.toString();
+    }
+
+    /**
+     * Decode a next character of a given bit stream.
+     * If the only code is empty its character is returned without reading the stream
+     *
+     * @return a decoded character
+     * @throws java.io.EOFException if the stream is ended inside a code
+     * @throws IOException          if the stream contains a prefix that does not belong to any code
+     * @since 1.4
+     */
+    public char decodeChar(BitReader reader) throws IOException {
+        if (charWithEmptyCode >= 0) {
+            return (char) charWithEmptyCode;
+        }
+
+        int offset = 0;
+        int tableBits = rootTableBits;
+
+        while (true) {
+            int entry = tables[offset + (int) reader.peek(tableBits)];
+
+            if (entry == NO_CODE) {
+                throw new IOException("the stream contains an unknown code");
+            }
+            if ((entry & LINK) == 0) {
+                reader.skip(entry & LENGTH_MASK);
+                return (char) (entry >>> LENGTH_BITS);
+            }
+
+            reader.skip(tableBits);
+            offset = (entry & ~LINK) >>> 4;
+            tableBits = entry & TABLE_BITS_MASK;
+        }
+    }
+}
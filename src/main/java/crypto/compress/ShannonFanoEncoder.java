@@ -0,0 +1,94 @@
+package crypto.compress;
+
+import crypto.util.BitUtil;
+import crypto.util.BitWriter;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Write shannon fano codes as bits of a stream.
+ * Every code is kept as packed bits with its length in arrays indexed by a character,
+ * so codes of any length are written by 64 bits at once.
+ * The table of codes is written as the number of codes and, for every character in ascending order,
+ * the difference with the previous character, the length of the code and the bits of the code
+ *
+ * @since 1.4
+ */
+public final class ShannonFanoEncoder {
+
+    /**
+     * A prefix-free code of all characters is not longer than the number of characters without one
+     */
+    public static final int MAX_CODE_LENGTH = Character.MAX_VALUE;
+
+    private static final int NO_CODE = -1;
+
+    private final Map<Character, String> shannonFanoBinaryCodes;
+    private final long[][] codes;
+    private final int[] lengths;
+
+    public ShannonFanoEncoder(Map<Character, String> shannonFanoBinaryCodes) {
+        int maxChar = -1;
+
+        for (Map.Entry<Character, String> entry : shannonFanoBinaryCodes.entrySet()) {
+            if (entry.getValue().length() > MAX_CODE_LENGTH) {
+                throw new IllegalArgumentException("code of char " + entry.getKey() + " is longer than "
+                        + MAX_CODE_LENGTH + " bits");
+            }
+            maxChar = Math.max(maxChar, entry.getKey());
+        }
+
+        this.shannonFanoBinaryCodes = new TreeMap<>(shannonFanoBinaryCodes);
+        this.codes = new long[maxChar + 1][];
+        this.lengths = new int[maxChar + 1];
+        Arrays.fill(lengths, NO_CODE);
+
+        for (Map.Entry<Character, String> entry : shannonFanoBinaryCodes.entrySet()) {
+            String code = entry.getValue();
+            long[] words = new long[BitUtil.getNumberOfWords(code.length())];
+            for (int i = 0; i < code.length(); i++) {
+                if (code.charAt(i) == '1') {
+                    BitUtil.setBit(words, i);
+                }
+            }
+            codes[entry.getKey()] = words;
+            lengths[entry.getKey()] = code.length();
+        }
+    }
+
+    /**
+     * Write the table of codes
+     *
+     * @since 1.4
+     */
+    public void writeCodes(BitWriter writer) throws IOException {
+        int previousChar = 0;
+
+        writer.writeVarLong(shannonFanoBinaryCodes.size());
+        for (char c : shannonFanoBinaryCodes.keySet()) {
+            writer.writeVarLong(c - previousChar);
+            writer.writeVarLong(lengths[c]);
+            writer.write(codes[c], lengths[c]);
+            previousChar = c;
+        }
+    }
+
+    /**
+     * Write the codes of all characters of a given message
+     *
+     * @throws IllegalArgumentException if there is no code for a character of the message
+     * @since 1.4
+     */
+    public void writeMessage(BitWriter writer, CharSequence message) throws IOException {
+        for (int i = 0; i < message.length(); i++) {
+            char c = message.charAt(i);
+            if (c >= lengths.length || lengths[c] == NO_CODE) {
+                throw new IllegalArgumentException("there is no code for char " + c);
+            }
+            writer.write(codes[c], lengths[c]);
+        }
+    }
+}
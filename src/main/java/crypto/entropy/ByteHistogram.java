@@ -0,0 +1,153 @@
+package crypto.entropy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Count bytes of a file by mapping chunks of the file into memory.
+ * Every task fills its own histogram of 256 counters over a chunk and histograms are summed when tasks are joined,
+ * so the workers do not share any counter and totals are exact for files of any size
+ *
+ * @since 1.4
+ */
+public final class ByteHistogram {
+
+    public static final int NUMBER_OF_BYTES = 1 << Byte.SIZE;
+    public static final long DEFAULT_CHUNK_SIZE = 1 << 26;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int NUMBER_OF_LANES = 4;
+
+    private ByteHistogram() {
+    }
+
+    /**
+     * Count bytes of a given file in parallel using the common fork join pool
+     *
+     * @return numbers of occurrences of every byte value from 0 to 255
+     * @since 1.4
+     */
+    public static long[] countBytes(Path path) throws IOException {
+        return countBytes(path, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Count bytes of a given file in parallel using a given pool
+     *
+     * @param chunkSize a number of bytes which are mapped and counted by one task
+     * @return numbers of occurrences of every byte value from 0 to 255
+     * @since 1.4
+     */
+    public static long[] countBytes(Path path, ForkJoinPool pool, long chunkSize) throws IOException {
+        if (chunkSize < 1 || chunkSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("chunk size should be from 1 to " + Integer.MAX_VALUE);
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            return pool.invoke(new ChunksTask(channel, 0, (size + chunkSize - 1) / chunkSize, chunkSize, size));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * @return a sum of all counters of a given histogram
+     * @since 1.4
+     */
+    public static long getTotal(long[] histogram) {
+        long total = 0;
+
+        for (long count : histogram) {
+            total += count;
+        }
+
+        return total;
+    }
+
+    private static long[] countChunk(FileChannel channel, long position, long size) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+        int[][] lanes = new int[NUMBER_OF_LANES][NUMBER_OF_BYTES];
+        long[] histogram = new long[NUMBER_OF_BYTES];
+        byte[] bytes = new byte[BUFFER_SIZE];
+
+        while (buffer.hasRemaining()) {
+            int length = Math.min(bytes.length, buffer.remaining());
+            int i = 0;
+
+            buffer.get(bytes, 0, length);
+            for (; i + NUMBER_OF_LANES <= length; i += NUMBER_OF_LANES) {
+                lanes[0][bytes[i] & 0xFF]++;
+                lanes[1][bytes[i + 1] & 0xFF]++;
+                lanes[2][bytes[i + 2] & 0xFF]++;
+                lanes[3][bytes[i + 3] & 0xFF]++;
+            }
+            for (; i < length; i++) {
+                lanes[0][bytes[i] & 0xFF]++;
+            }
+
+            for (int[] lane : lanes) {
+                for (int b = 0; b < NUMBER_OF_BYTES; b++) {
+                    histogram[b] += lane[b];
+                    lane[b] = 0;
+                }
+            }
+        }
+
+        return histogram;
+    }
+
+    /**
+     * Split chunks in halves until one chunk is left and sum histograms of the halves
+     *
+     * @since 1.4
+     */
+    private static final class ChunksTask extends RecursiveTask<long[]> {
+        private final FileChannel channel;
+        private final long from;
+        private final long to;
+        private final long chunkSize;
+        private final long fileSize;
+
+        private ChunksTask(FileChannel channel, long from, long to, long chunkSize, long fileSize) {
+            this.channel = channel;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.fileSize = fileSize;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from == 0) {
+                return new long[NUMBER_OF_BYTES];
+            }
+            if (to - from == 1) {
+                long position = from * chunkSize;
+                try {
+                    return countChunk(channel, position, Math.min(chunkSize, fileSize - position));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            long middle = (from + to) >>> 1;
+            ChunksTask right = new ChunksTask(channel, middle, to, chunkSize, fileSize);
+            right.fork();
+            long[] histogram = new ChunksTask(channel, from, middle, chunkSize, fileSize).compute();
+            long[] rightHistogram = right.join();
+
+            for (int b = 0; b < NUMBER_OF_BYTES; b++) {
+                histogram[b] += rightHistogram[b];
+            }
+
+            return histogram;
+        }
+    }
+}
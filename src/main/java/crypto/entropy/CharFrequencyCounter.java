@@ -0,0 +1,181 @@
+package crypto.entropy;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Count characters of an alphabet in text decoded by a charset.
+ * Every character is counted by its position in the alphabet through a dense table indexed by the character,
+ * characters out of the alphabet are counted only in the total.
+ * Files are mapped into memory by chunks and decoded in bulk into a char buffer
+ *
+ * @since 1.4
+ */
+public final class CharFrequencyCounter {
+
+    public static final long DEFAULT_CHUNK_SIZE = 1 << 26;
+
+    private static final int BUFFER_SIZE = 1 << 13;
+
+    private final int[] alphabet;
+    private final int[] indexes;
+    private final long[] counts;
+    private long total;
+
+    /**
+     * @param alphabet codes of chars which are counted
+     */
+    public CharFrequencyCounter(int[] alphabet) {
+        int maxChar = 0;
+
+        for (int c : alphabet) {
+            if (c < Character.MIN_VALUE || c > Character.MAX_VALUE) {
+                throw new IllegalArgumentException("char " + c + " is out of " + Character.MAX_VALUE);
+            }
+            maxChar = Math.max(maxChar, c);
+        }
+
+        this.alphabet = alphabet.clone();
+        this.indexes = new int[maxChar + 1];
+        this.counts = new long[alphabet.length + 1];
+
+        Arrays.fill(indexes, alphabet.length);
+        for (int i = alphabet.length - 1; i >= 0; i--) {
+            indexes[alphabet[i]] = i;
+        }
+    }
+
+    /**
+     * Count remaining chars of a given buffer
+     *
+     * @since 1.4
+     */
+    public void count(CharBuffer buffer) {
+        int outOfAlphabet = alphabet.length;
+
+        if (buffer.hasArray()) {
+            char[] chars = buffer.array();
+            int end = buffer.arrayOffset() + buffer.limit();
+            for (int i = buffer.arrayOffset() + buffer.position(); i < end; i++) {
+                char c = chars[i];
+                counts[c < indexes.length ? indexes[c] : outOfAlphabet]++;
+            }
+        } else {
+            for (int i = buffer.position(); i < buffer.limit(); i++) {
+                char c = buffer.get(i);
+                counts[c < indexes.length ? indexes[c] : outOfAlphabet]++;
+            }
+        }
+
+        total += buffer.remaining();
+        buffer.position(buffer.limit());
+    }
+
+    /**
+     * Count chars of a given file decoded by a given charset, malformed bytes are counted as replacement chars
+     *
+     * @since 1.4
+     */
+    public void count(Path path, Charset charset) throws IOException {
+        count(path, charset, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Count chars of a given file decoded by a given charset mapping a given number of bytes at once
+     *
+     * @since 1.4
+     */
+    public void count(Path path, Charset charset, long chunkSize) throws IOException {
+        if (chunkSize < 16 || chunkSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("chunk size should be from 16 to " + Integer.MAX_VALUE);
+        }
+
+        CharsetDecoder decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+
+            while (true) {
+                long length = Math.min(chunkSize, size - position);
+                boolean isLast = position + length == size;
+                MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+                decode(decoder, bytes, chars, isLast);
+                if (isLast) {
+                    break;
+                }
+                position += bytes.position();
+            }
+
+            while (decoder.flush(chars) == CoderResult.OVERFLOW) {
+                countDecoded(chars);
+            }
+            countDecoded(chars);
+        }
+    }
+
+    private void decode(CharsetDecoder decoder, MappedByteBuffer bytes, CharBuffer chars,
+                        boolean isLast) throws IOException {
+        while (true) {
+            CoderResult result = decoder.decode(bytes, chars, isLast);
+            if (result.isOverflow()) {
+                countDecoded(chars);
+            } else if (result.isUnderflow()) {
+                return;
+            } else {
+                result.throwException();
+            }
+        }
+    }
+
+    private void countDecoded(CharBuffer chars) {
+        chars.flip();
+        count(chars);
+        chars.clear();
+    }
+
+    /**
+     * @return a number of occurrences of a char with a given position in the alphabet
+     * @since 1.4
+     */
+    public long getCount(int index) {
+        return counts[index];
+    }
+
+    /**
+     * @return a number of all counted chars including chars out of the alphabet
+     * @since 1.4
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * @return probabilities of all chars of the alphabet among all counted chars
+     * @since 1.4
+     */
+    public Map<Character, Double> getProbabilities() {
+        Map<Character, Double> probabilities = new HashMap<>();
+
+        for (int i = 0; i < alphabet.length; i++) {
+            probabilities.put((char) alphabet[i], (double) counts[indexes[alphabet[i]]] / total);
+        }
+
+        return probabilities;
+    }
+}
@@ -3,9 +3,13 @@ package crypto.entropy;
 import crypto.alphabet.Alphabet;
 import crypto.util.PrintUtil;
 
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -81,32 +85,101 @@ public final class EntropyUtil {
     }
 
     /**
+     * Count bytes of a given file if all chars of the alphabet are less than 256,
+     * otherwise count chars of the file decoded as UTF-8
+     *
      * @return probabilities of all chars of the given alphabet of a given file
      * @since 1.0
      */
     public Map<Character, Double> getProbabilitiesOfChars(String pathToFile, int[] alphabet) {
-        Map<Integer, FrequencyOfLetter> frequency = new HashMap<>();
+        if (Arrays.stream(alphabet).anyMatch(c -> c >= ByteHistogram.NUMBER_OF_BYTES)) {
+            return getProbabilitiesOfChars(pathToFile, alphabet, StandardCharsets.UTF_8);
+        }
+
         Map<Character, Double> probabilities = new HashMap<>();
-        int available = 0;
+        long[] histogram = getHistogram(pathToFile);
+        long total = ByteHistogram.getTotal(histogram);
 
-        Arrays.stream(alphabet).forEach(c -> frequency.put(c, new FrequencyOfLetter()));
-        try (FileInputStream fileStream = new FileInputStream(pathToFile)) {
-            int c;
-            available = fileStream.available();
-            while ((c = fileStream.read()) != -1) {
-                if (frequency.containsKey(c)) {
-                    frequency.get(c).addFrequency();
-                }
+        Arrays.stream(alphabet).forEach(c -> probabilities.put((char) c, (double) histogram[c] / total));
+
+        return probabilities;
+    }
+
+    /**
+     * Count chars of a given file decoded by a given charset by {@link CharFrequencyCounter}
+     *
+     * @return probabilities of all chars of the given alphabet among all chars of a given file
+     * @since 1.4
+     */
+    public Map<Character, Double> getProbabilitiesOfChars(String pathToFile, int[] alphabet, Charset charset) {
+        CharFrequencyCounter counter = new CharFrequencyCounter(alphabet);
+
+        try {
+            counter.count(Path.of(pathToFile), charset);
+        } catch (IOException e) {
+            printUtil.println(e.getMessage());
+            throw new RuntimeException(e.getMessage());
+        }
+
+        return counter.getProbabilities();
+    }
+
+    /**
+     * @return a entropy of an alphabet on the base of a given file decoded by a given charset
+     * @since 1.4
+     */
+    public double calculateEntropy(String pathToFile, int[] alphabet, Charset charset) {
+        Map<Character, Double> probabilities = getProbabilitiesOfChars(pathToFile, alphabet, charset);
+
+        return -probabilities.values().stream().mapToDouble(i -> i * Math.log(i) / Math.log(2)).sum();
+    }
+
+    /**
+     * Calculate a entropy of bytes of a given file, the file is counted by {@link ByteHistogram}
+     *
+     * @return a entropy of bytes in bits
+     * @since 1.4
+     */
+    public double calculateEntropyOfBytes(String pathToFile) {
+        long[] histogram = getHistogram(pathToFile);
+        double total = ByteHistogram.getTotal(histogram);
+        double entropy = 0;
+
+        for (long count : histogram) {
+            if (count > 0) {
+                entropy -= count / total * Math.log(count / total) / Math.log(2);
             }
+        }
+
+        return entropy;
+    }
+
+    /**
+     * Calculate conditional entropies of bytes of a given file by {@link MarkovEntropyEstimator}
+     *
+     * @return entropies in bits given from 0 to a given max order of previous bytes
+     * @since 1.4
+     */
+    public double[] calculateConditionalEntropies(String pathToFile, int maxOrder) {
+        MarkovEntropyEstimator estimator = new MarkovEntropyEstimator(maxOrder);
+
+        try (InputStream stream = Files.newInputStream(Path.of(pathToFile))) {
+            estimator.update(stream);
         } catch (IOException e) {
             printUtil.println(e.getMessage());
             throw new RuntimeException(e.getMessage());
         }
 
-        final int total = available;
-        Arrays.stream(alphabet).forEach(c -> probabilities.put((char) c, (double) frequency.get(c).getFrequency() / total));
+        return estimator.getEntropies();
+    }
 
-        return probabilities;
+    private long[] getHistogram(String pathToFile) {
+        try {
+            return ByteHistogram.countBytes(Path.of(pathToFile));
+        } catch (IOException e) {
+            printUtil.println(e.getMessage());
+            throw new RuntimeException(e.getMessage());
+        }
     }
 
     /**
@@ -0,0 +1,114 @@
+package crypto.entropy;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Counters of long keys in an open-addressing table with linear probing.
+ * Keys and counts are kept in parallel primitive arrays, a zero count marks an empty entry,
+ * so any long value can be a key. The table is doubled when it is filled by three quarters
+ *
+ * @since 1.4
+ */
+final class LongIntHashTable {
+
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private static final int MIN_CAPACITY = 1 << 4;
+
+    private long[] keys;
+    private int[] counts;
+    private int mask;
+    private int size;
+
+    LongIntHashTable(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+
+        while (capacity < MAX_CAPACITY && capacity / 4 * 3 < expectedSize) {
+            capacity <<= 1;
+        }
+
+        this.keys = new long[capacity];
+        this.counts = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Add one to the count of a given key
+     */
+    void increment(long key) {
+        int index = find(key);
+
+        if (counts[index] == 0) {
+            keys[index] = key;
+            size++;
+        }
+        counts[index]++;
+
+        if (size > (mask + 1) / 4 * 3) {
+            grow();
+        }
+    }
+
+    /**
+     * @return a count of a given key or zero if there is no key
+     */
+    int get(long key) {
+        return counts[find(key)];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Pass counts of all keys to a given consumer
+     */
+    void forEachCount(IntConsumer consumer) {
+        for (int count : counts) {
+            if (count != 0) {
+                consumer.accept(count);
+            }
+        }
+    }
+
+    /**
+     * @return an index of the entry with a given key or of the empty entry where the key should be
+     */
+    private int find(long key) {
+        int index = hash(key) & mask;
+
+        while (counts[index] != 0 && keys[index] != key) {
+            index = index + 1 & mask;
+        }
+
+        return index;
+    }
+
+    private void grow() {
+        if (mask + 1 == MAX_CAPACITY) {
+            throw new IllegalStateException("table is full");
+        }
+
+        long[] oldKeys = keys;
+        int[] oldCounts = counts;
+
+        keys = new long[oldKeys.length << 1];
+        counts = new int[oldCounts.length << 1];
+        mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldCounts[i] != 0) {
+                int index = find(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                counts[index] = oldCounts[i];
+            }
+        }
+    }
+
+    private static int hash(long key) {
+        key ^= key >>> 33;
+        key *= 0xFF51AFD7ED558CCDL;
+        key ^= key >>> 33;
+
+        return (int) key;
+    }
+}
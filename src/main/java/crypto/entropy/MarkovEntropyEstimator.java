@@ -0,0 +1,140 @@
+package crypto.entropy;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Estimate conditional entropies H(X | previous k bytes) of a stream of bytes for every order from 0 to a max order.
+ * For every order k the numbers of sequences of k + 1 bytes are counted in a primitive hash table,
+ * sequences are packed into long keys, so the max order is 7.
+ * A number of contexts of order k is a number of sequences of order k - 1 except the last sequence of the stream,
+ * so the entropy of every order is calculated from the sums of n log n of two tables
+ *
+ * @since 1.4
+ */
+public final class MarkovEntropyEstimator {
+
+    public static final int MAX_ORDER = Long.BYTES - 1;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int EXPECTED_SIZE = 1 << 12;
+
+    private final int maxOrder;
+    private final LongIntHashTable[] tables;
+    private long history;
+    private long numberOfBytes;
+
+    public MarkovEntropyEstimator(int maxOrder) {
+        if (maxOrder < 0 || maxOrder > MAX_ORDER) {
+            throw new IllegalArgumentException("max order should be from 0 to " + MAX_ORDER);
+        }
+
+        this.maxOrder = maxOrder;
+        this.tables = new LongIntHashTable[maxOrder + 1];
+        for (int order = 0; order <= maxOrder; order++) {
+            tables[order] = new LongIntHashTable(EXPECTED_SIZE);
+        }
+    }
+
+    /**
+     * Count sequences which end with given bytes
+     *
+     * @since 1.4
+     */
+    public void update(byte[] bytes, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            history = history << Byte.SIZE | bytes[i] & 0xFF;
+            numberOfBytes++;
+
+            int orders = (int) Math.min(maxOrder, numberOfBytes - 1);
+            for (int order = 0; order <= orders; order++) {
+                tables[order].increment(history & getMask(order));
+            }
+        }
+    }
+
+    /**
+     * Count all bytes of a given stream
+     *
+     * @since 1.4
+     */
+    public void update(InputStream stream) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int length;
+
+        while ((length = stream.read(buffer)) >= 0) {
+            update(buffer, 0, length);
+        }
+    }
+
+    /**
+     * @return a conditional entropy of the next byte in bits given a given number of previous bytes
+     * @since 1.4
+     */
+    public double getEntropy(int order) {
+        if (order < 0 || order > maxOrder) {
+            throw new IllegalArgumentException("order should be from 0 to " + maxOrder);
+        }
+
+        long numberOfEvents = numberOfBytes - order;
+        if (numberOfEvents <= 0) {
+            return 0;
+        }
+
+        double contexts;
+        if (order == 0) {
+            contexts = nLogN(numberOfEvents);
+        } else {
+            long count = tables[order - 1].get(history & getMask(order - 1));
+            contexts = sumOfNLogN(tables[order - 1]) - nLogN(count) + nLogN(count - 1);
+        }
+
+        return Math.max(0, (contexts - sumOfNLogN(tables[order])) / numberOfEvents);
+    }
+
+    /**
+     * @return conditional entropies of all orders from 0 to the max order
+     * @since 1.4
+     */
+    public double[] getEntropies() {
+        double[] entropies = new double[maxOrder + 1];
+
+        for (int order = 0; order <= maxOrder; order++) {
+            entropies[order] = getEntropy(order);
+        }
+
+        return entropies;
+    }
+
+    public long getNumberOfBytes() {
+        return numberOfBytes;
+    }
+
+    public int getMaxOrder() {
+        return maxOrder;
+    }
+
+    /**
+     * @return a number of different sequences of order + 1 bytes
+     * @since 1.4
+     */
+    public int getNumberOfSequences(int order) {
+        return tables[order].size();
+    }
+
+    private static long getMask(int order) {
+        return -1L >>> (Long.SIZE - Byte.SIZE * (order + 1));
+    }
+
+    private static double sumOfNLogN(LongIntHashTable table) {
+        double[] sum = {0};
+
+        table.forEachCount(count -> sum[0] += nLogN(count));
+
+        return sum[0];
+    }
+
+    private static double nLogN(long n) {
+        return n <= 1 ? 0 : n * Math.log(n) / Math.log(2);
+    }
+}
@@ -0,0 +1,130 @@
+package crypto.entropy;
+
+import java.util.Arrays;
+
+/**
+ * Keep an entropy of the last bytes of a stream while bytes arrive.
+ * Bytes of the window are kept in a ring buffer with a count of every byte value
+ * and the sum of n log n over the counts, so adding a byte and dropping the oldest one take a constant time.
+ * Values of n log n are taken from a table, the sum is recalculated from the counts once per window
+ * to drop accumulated rounding errors
+ *
+ * @since 1.4
+ */
+public final class SlidingEntropyMonitor {
+
+    private final byte[] window;
+    private final int[] counts;
+    private final double[] nLogN;
+    private double sumOfNLogN;
+    private int position;
+    private int size;
+    private int updatesUntilRecalculation;
+
+    /**
+     * @param windowSize a number of last bytes the entropy is calculated over
+     */
+    public SlidingEntropyMonitor(int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("window size should be positive");
+        }
+
+        this.window = new byte[windowSize];
+        this.counts = new int[ByteHistogram.NUMBER_OF_BYTES];
+        this.nLogN = new double[windowSize + 1];
+        this.updatesUntilRecalculation = windowSize;
+
+        for (int n = 2; n <= windowSize; n++) {
+            nLogN[n] = n * Math.log(n) / Math.log(2);
+        }
+    }
+
+    /**
+     * Add a given byte to the window dropping the oldest byte if the window is full
+     *
+     * @since 1.4
+     */
+    public void update(byte b) {
+        int value = b & 0xFF;
+
+        if (size == window.length) {
+            int oldest = window[position] & 0xFF;
+            int count = counts[oldest]--;
+            sumOfNLogN -= nLogN[count] - nLogN[count - 1];
+        } else {
+            size++;
+        }
+
+        int count = ++counts[value];
+        sumOfNLogN += nLogN[count] - nLogN[count - 1];
+        window[position] = b;
+        position = position + 1 == window.length ? 0 : position + 1;
+
+        if (--updatesUntilRecalculation == 0) {
+            recalculate();
+        }
+    }
+
+    /**
+     * Add given bytes to the window
+     *
+     * @since 1.4
+     */
+    public void update(byte[] bytes, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            update(bytes[i]);
+        }
+    }
+
+    /**
+     * @return an entropy in bits of bytes of the window or zero if the window is empty
+     * @since 1.4
+     */
+    public double getEntropy() {
+        if (size == 0) {
+            return 0;
+        }
+
+        return Math.max(0, (nLogN[size] - sumOfNLogN) / size);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getWindowSize() {
+        return window.length;
+    }
+
+    /**
+     * @return true if the window contains a window size of bytes
+     * @since 1.4
+     */
+    public boolean isFull() {
+        return size == window.length;
+    }
+
+    /**
+     * Remove all bytes from the window
+     *
+     * @since 1.4
+     */
+    public void clear() {
+        Arrays.fill(counts, 0);
+        sumOfNLogN = 0;
+        position = 0;
+        size = 0;
+        updatesUntilRecalculation = window.length;
+    }
+
+    private void recalculate() {
+        double sum = 0;
+
+        for (int count : counts) {
+            sum += nLogN[count];
+        }
+
+        sumOfNLogN = sum;
+        updatesUntilRecalculation = window.length;
+    }
+}
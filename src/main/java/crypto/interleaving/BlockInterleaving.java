@@ -1,17 +1,20 @@
 package crypto.interleaving;
 
-import crypto.recoverycode.HammingCode;
+import crypto.recoverycode.HammingCodec;
 import crypto.util.PrintUtil;
 import java.io.PrintStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
 
 public final class BlockInterleaving {
 
     private final PrintUtil printUtil;
-    private final HammingCode hammingCode;
 
     public BlockInterleaving(PrintStream stream) {
         this.printUtil = new PrintUtil(stream);
-        this.hammingCode = new HammingCode(stream);
     }
 
     /**
@@ -45,18 +48,50 @@ public final class BlockInterleaving {
      */
     public int[][] getEncodedBytesMatrix(int[][] informationMatrix, int numberOfInformationBytes,
                                          int numberOfRedundantBytes) {
-        int[][] matrix = new int[informationMatrix.length][numberOfInformationBytes + numberOfRedundantBytes];
+        int[][] matrix = new int[informationMatrix.length][];
 
-        int[][] checkMatrix = hammingCode.getCheckMatrix(numberOfInformationBytes, numberOfRedundantBytes);
+        HammingCodec hammingCodec = HammingCodec.getInstance(numberOfInformationBytes, numberOfRedundantBytes);
 
         for (int i = 0; i < informationMatrix.length; i++) {
-            matrix[i] = hammingCode.encodeMessage(checkMatrix, informationMatrix[i],
-                    numberOfInformationBytes, numberOfRedundantBytes);
+            matrix[i] = hammingCodec.encodeMessage(informationMatrix[i]);
         }
 
         return matrix;
     }
 
+    /**
+     * Encode words of the matrix in parallel using the common fork join pool
+     *
+     * @param grainSize a max number of rows which are encoded by one task
+     * @return an encoded bytes matrix that equals to the result of the sequential way
+     * @since 1.4
+     */
+    public int[][] getEncodedBytesMatrix(int[][] informationMatrix, int numberOfInformationBytes,
+                                         int numberOfRedundantBytes, int grainSize) {
+        return getEncodedBytesMatrix(informationMatrix, numberOfInformationBytes, numberOfRedundantBytes,
+                ForkJoinPool.commonPool(), grainSize);
+    }
+
+    /**
+     * Encode words of the matrix in parallel using a given executor
+     *
+     * @param executor  a fork join pool or any other executor which runs the tasks
+     * @param grainSize a max number of rows which are encoded by one task
+     * @return an encoded bytes matrix that equals to the result of the sequential way
+     * @since 1.4
+     */
+    public int[][] getEncodedBytesMatrix(int[][] informationMatrix, int numberOfInformationBytes,
+                                         int numberOfRedundantBytes, Executor executor, int grainSize) {
+        int[][] matrix = new int[informationMatrix.length][];
+
+        HammingCodec hammingCodec = HammingCodec.getInstance(numberOfInformationBytes, numberOfRedundantBytes);
+
+        processRows(matrix.length, i -> matrix[i] = hammingCodec.encodeMessage(informationMatrix[i]),
+                executor, grainSize);
+
+        return matrix;
+    }
+
     /**
      * Merge encoded words into a message using the interleaving way
      *
@@ -105,25 +140,44 @@ public final class BlockInterleaving {
     public int[][] recoverEncodedBytesMatrix(int[][] encodedMatrix, int numberOfInformationBytes,
                                              int numberOfRedundantBytes) {
 
-        int codeWordLength = numberOfInformationBytes + numberOfRedundantBytes;
-        int[][] recoveredBytesMatrix = new int[encodedMatrix.length][encodedMatrix[0].length];
-        int[][] checkMatrix = hammingCode.getCheckMatrix(numberOfInformationBytes, numberOfRedundantBytes);
-        int[][] syndromeMatrix = new int[encodedMatrix.length][numberOfRedundantBytes];
+        int[][] recoveredBytesMatrix = new int[encodedMatrix.length][];
+        HammingCodec hammingCodec = HammingCodec.getInstance(numberOfInformationBytes, numberOfRedundantBytes);
 
         for (int i = 0; i < encodedMatrix.length; i++) {
-            int[] yr = hammingCode.getRedundantBytes(encodedMatrix[i], numberOfInformationBytes, numberOfRedundantBytes);
-            int[] calculatedYr = hammingCode.calculateRedundantBytes(checkMatrix, encodedMatrix[i],
-                    numberOfInformationBytes, numberOfRedundantBytes);
+            recoveredBytesMatrix[i] = hammingCodec.recoverMessage(encodedMatrix[i]);
+        }
+        return recoveredBytesMatrix;
+    }
 
-            syndromeMatrix[i] = hammingCode.getSyndrome(yr, calculatedYr);
+    /**
+     * Recover words of the matrix in parallel using the common fork join pool
+     *
+     * @param grainSize a max number of rows which are recovered by one task
+     * @return a recovered bytes matrix that equals to the result of the sequential way
+     * @since 1.4
+     */
+    public int[][] recoverEncodedBytesMatrix(int[][] encodedMatrix, int numberOfInformationBytes,
+                                             int numberOfRedundantBytes, int grainSize) {
+        return recoverEncodedBytesMatrix(encodedMatrix, numberOfInformationBytes, numberOfRedundantBytes,
+                ForkJoinPool.commonPool(), grainSize);
+    }
+
+    /**
+     * Recover words of the matrix in parallel using a given executor
+     *
+     * @param executor  a fork join pool or any other executor which runs the tasks
+     * @param grainSize a max number of rows which are recovered by one task
+     * @return a recovered bytes matrix that equals to the result of the sequential way
+     * @since 1.4
+     */
+    public int[][] recoverEncodedBytesMatrix(int[][] encodedMatrix, int numberOfInformationBytes,
+                                             int numberOfRedundantBytes, Executor executor, int grainSize) {
+        int[][] recoveredBytesMatrix = new int[encodedMatrix.length][];
+        HammingCodec hammingCodec = HammingCodec.getInstance(numberOfInformationBytes, numberOfRedundantBytes);
 
-            int[] recoveringBytes = hammingCode.getRecoveryBytes(syndromeMatrix[i], checkMatrix,
-                    numberOfInformationBytes, numberOfRedundantBytes);
+        processRows(recoveredBytesMatrix.length,
+                i -> recoveredBytesMatrix[i] = hammingCodec.recoverMessage(encodedMatrix[i]), executor, grainSize);
 
-            for (int j = 0; j < recoveredBytesMatrix[i].length; j++) {
-                recoveredBytesMatrix[i][j] = encodedMatrix[i][j] ^ recoveringBytes[j];
-            }
-        }
         return recoveredBytesMatrix;
     }
 
@@ -162,4 +216,66 @@ public final class BlockInterleaving {
 
         return sequence;
     }
-}
\ No newline at end of file
+
+    /**
+     * Apply a given action to every row splitting the rows into tasks with a given max number of rows
+     *
+     * @since 1.4
+     */
+    private void processRows(int numberOfRows, IntConsumer rowAction, Executor executor, int grainSize) {
+        if (grainSize < 1) {
+            throw new IllegalArgumentException("grain size should be positive");
+        }
+
+        if (executor instanceof ForkJoinPool) {
+            ((ForkJoinPool) executor).invoke(new RowsTask(0, numberOfRows, grainSize, rowAction));
+            return;
+        }
+
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[(numberOfRows + grainSize - 1) / grainSize];
+
+        for (int i = 0; i < tasks.length; i++) {
+            int from = i * grainSize;
+            int to = Math.min(numberOfRows, from + grainSize);
+            tasks[i] = CompletableFuture.runAsync(() -> {
+                for (int j = from; j < to; j++) {
+                    rowAction.accept(j);
+                }
+            }, executor);
+        }
+
+        CompletableFuture.allOf(tasks).join();
+    }
+
+    /**
+     * Split rows in halves until a number of rows is not more than the grain size
+     *
+     * @since 1.4
+     */
+    private static final class RowsTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final int grainSize;
+        private final IntConsumer rowAction;
+
+        private RowsTask(int from, int to, int grainSize, IntConsumer rowAction) {
+            this.from = from;
+            this.to = to;
+            this.grainSize = grainSize;
+            this.rowAction = rowAction;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grainSize) {
+                for (int i = from; i < to; i++) {
+                    rowAction.accept(i);
+                }
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new RowsTask(from, middle, grainSize, rowAction), new RowsTask(middle, to, grainSize, rowAction));
+        }
+    }
+}
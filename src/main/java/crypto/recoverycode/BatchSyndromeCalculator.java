@@ -0,0 +1,153 @@
+package crypto.recoverycode;
+
+import crypto.util.BinaryMatrix;
+import crypto.util.BitUtil;
+
+/**
+ * Syndromes of many code words of the same linear code at once.
+ * Code words are laid out as a structure of arrays: the word w of the code word i is codeWords[w][i],
+ * so a row of the check matrix is applied to all code words by AND and XOR of whole arrays and a parity
+ * of the accumulated words is taken once per row.
+ * If the classes are compiled with the vector profile and the JVM is started with
+ * {@code --add-modules jdk.incubator.vector} the arrays are processed by vector instructions,
+ * otherwise by a scalar kernel
+ *
+ * @since 1.4
+ */
+public final class BatchSyndromeCalculator {
+
+    private static final String VECTOR_KERNEL = "crypto.recoverycode.VectorSyndromeKernel";
+    private static final SyndromeKernel KERNEL = loadKernel();
+
+    private final long[][] packedCheckMatrix;
+    private final int codeWordLength;
+
+    /**
+     * @param checkMatrix a check matrix with a row per syndrome byte and a column per code word byte
+     */
+    public BatchSyndromeCalculator(BinaryMatrix checkMatrix) {
+        this.packedCheckMatrix = new long[checkMatrix.getNumberOfRows()][];
+        this.codeWordLength = checkMatrix.getNumberOfColumns();
+
+        for (int i = 0; i < packedCheckMatrix.length; i++) {
+            packedCheckMatrix[i] = checkMatrix.getRow(i);
+        }
+    }
+
+    /**
+     * @return a calculator of syndromes with the bit i of the syndrome equal to the bit i
+     * of {@link HammingCodec#calculateSyndrome(long[])}
+     * @since 1.4
+     */
+    public static BatchSyndromeCalculator forHammingCodec(HammingCodec hammingCodec) {
+        return new BatchSyndromeCalculator(BinaryMatrix.fromArray(hammingCodec.getCheckMatrix()));
+    }
+
+    /**
+     * @return a calculator of syndromes equal to {@link IterativeCodec#calculateSyndrome(long[])}
+     * @since 1.4
+     */
+    public static BatchSyndromeCalculator forIterativeCodec(IterativeCodec iterativeCodec) {
+        int numberOfRows = iterativeCodec.getNumberOfRows();
+        int numberOfColumns = iterativeCodec.getNumberOfColumns();
+        int numberOfInformationBytes = iterativeCodec.getNumberOfInformationBytes();
+        BinaryMatrix checkMatrix = new BinaryMatrix(iterativeCodec.getNumberOfRedundantBytes(),
+                iterativeCodec.getCodeWordLength());
+
+        for (int i = 0; i < numberOfRows; i++) {
+            for (int j = 0; j < numberOfColumns; j++) {
+                checkMatrix.set(i, i * numberOfColumns + j, 1);
+                checkMatrix.set(numberOfRows + j, i * numberOfColumns + j, 1);
+            }
+            checkMatrix.set(i, numberOfInformationBytes + i, 1);
+        }
+        for (int j = 0; j < numberOfColumns; j++) {
+            checkMatrix.set(numberOfRows + j, numberOfInformationBytes + numberOfRows + j, 1);
+        }
+        for (int k = 0; k < numberOfRows + numberOfColumns; k++) {
+            checkMatrix.set(numberOfRows + numberOfColumns, numberOfInformationBytes + k, 1);
+        }
+
+        return new BatchSyndromeCalculator(checkMatrix);
+    }
+
+    /**
+     * @return true if syndromes are calculated by vector instructions
+     * @since 1.4
+     */
+    public static boolean isVectorized() {
+        return KERNEL.isVectorized();
+    }
+
+    public int getCodeWordLength() {
+        return codeWordLength;
+    }
+
+    public int getSyndromeLength() {
+        return packedCheckMatrix.length;
+    }
+
+    /**
+     * Calculate syndromes of the first code words of a structure of arrays
+     *
+     * @return syndromes as a structure of arrays, the word w of the syndrome of the code word i is syndromes[w][i]
+     * @since 1.4
+     */
+    public long[][] calculateSyndromes(long[][] codeWords, int numberOfCodeWords) {
+        if (codeWords.length != BitUtil.getNumberOfWords(codeWordLength)) {
+            throw new IllegalArgumentException("number of words should be "
+                    + BitUtil.getNumberOfWords(codeWordLength));
+        }
+        for (long[] words : codeWords) {
+            if (words.length < numberOfCodeWords) {
+                throw new IllegalArgumentException("every array should keep " + numberOfCodeWords + " code words");
+            }
+        }
+
+        long[][] syndromes = new long[BitUtil.getNumberOfWords(packedCheckMatrix.length)][numberOfCodeWords];
+
+        KERNEL.calculateSyndromes(packedCheckMatrix, codeWords, numberOfCodeWords, syndromes);
+
+        return syndromes;
+    }
+
+    /**
+     * Lay out packed code words as a structure of arrays
+     *
+     * @return a structure of arrays where the word w of the code word i is codeWords[w][i]
+     * @since 1.4
+     */
+    public static long[][] toStructureOfArrays(long[][] packedCodeWords, int codeWordLength) {
+        long[][] codeWords = new long[BitUtil.getNumberOfWords(codeWordLength)][packedCodeWords.length];
+
+        for (int i = 0; i < packedCodeWords.length; i++) {
+            for (int w = 0; w < codeWords.length; w++) {
+                codeWords[w][i] = packedCodeWords[i][w];
+            }
+        }
+
+        return codeWords;
+    }
+
+    /**
+     * @return a packed syndrome of the code word with a given index
+     * @since 1.4
+     */
+    public static long[] getSyndrome(long[][] syndromes, int index) {
+        long[] syndrome = new long[syndromes.length];
+
+        for (int w = 0; w < syndromes.length; w++) {
+            syndrome[w] = syndromes[w][index];
+        }
+
+        return syndrome;
+    }
+
+    private static SyndromeKernel loadKernel() {
+        try {
+            return (SyndromeKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return new ScalarSyndromeKernel();
+        }
+    }
+}
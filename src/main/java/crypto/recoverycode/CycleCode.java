@@ -1,24 +1,30 @@
 package crypto.recoverycode;
 
-import crypto.util.MatrixUtil;
-import crypto.util.PrintUtil;
+import crypto.util.BinaryMatrix;
+import crypto.util.Tracer;
 
 import java.io.PrintStream;
 import java.util.Arrays;
-import java.util.stream.IntStream;
 
 public class CycleCode {
 
-    private final PrintUtil printUtil;
-    private final MatrixUtil matrixUtil;
+    private final Tracer tracer;
 
     public CycleCode(PrintStream stream) {
-        this.printUtil = new PrintUtil(stream);
-        this.matrixUtil = new MatrixUtil();
+        this(Tracer.verbose(stream));
     }
 
     /**
-     * Encode a given message by the cycle code way with using the generating polynomial
+     * @param tracer prints every step of the polynomial division
+     * @since 1.4
+     */
+    public CycleCode(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    /**
+     * Encode a given message by the cycle code way with using the generating polynomial.
+     * The remainder is calculated by the table driven {@link CyclicCodeEngine}
      *
      * @return a encoded message
      * @since 1.0
@@ -30,11 +36,13 @@ public class CycleCode {
             mainPolynomial[i] = polynomial[i];
         }
 
-        int[] redundantBytes = new int[codeWordLength - numberOfInformationBytes];
-        int[] rest = trimPolyZero(polynomialDivision(mainPolynomial, generatingPolynomial));
-        int startPosition = redundantBytes.length - rest.length;
+        if (tracer.isEnabled()) {
+            traceDivision(mainPolynomial, generatingPolynomial);
+        }
 
-        System.arraycopy(rest, 0, redundantBytes, startPosition, rest.length);
+        long rest = CyclicCodeEngine.getInstance(generatingPolynomial)
+                .remainder(mainPolynomial, 0, codeWordLength);
+        int[] redundantBytes = toPolynomial(rest, codeWordLength - numberOfInformationBytes);
 
         int[] encodedMessage = new int[codeWordLength];
 
@@ -76,7 +84,14 @@ public class CycleCode {
      * @since 1.0
      */
     public int[] calculateSyndrome(int[] encodedMessage, int[] generatingPolynomial, int numberOfInformationBytes) {
-        return getRedundantBytes(polynomialDivision(encodedMessage, generatingPolynomial), numberOfInformationBytes);
+        if (tracer.isEnabled()) {
+            traceDivision(encodedMessage, generatingPolynomial);
+        }
+
+        long rest = CyclicCodeEngine.getInstance(generatingPolynomial)
+                .remainder(encodedMessage, 0, encodedMessage.length);
+
+        return toPolynomial(rest, encodedMessage.length - numberOfInformationBytes);
     }
 
 
@@ -143,39 +158,42 @@ public class CycleCode {
     }
 
     /**
-     * Format a given generating matrix to the canon view
+     * Format a given generating matrix to the canon view, rows are packed into {@link BinaryMatrix}
      *
      * @since 1.0
      */
     private void formatGeneratingMatrix(int[][] generatingMatrix) {
+        BinaryMatrix matrix = BinaryMatrix.fromArray(generatingMatrix);
+
         for (int i = 0; i < generatingMatrix.length; i++) {
             for (int j = i + 1; j < generatingMatrix.length; j++) {
-                if (generatingMatrix[i][j] == 1) {
-                    matrixUtil.rowSum(generatingMatrix[i], generatingMatrix[j]);
+                if (matrix.get(i, j) == 1) {
+                    matrix.xorRows(i, j);
                 }
             }
         }
+
+        matrix.toArray(generatingMatrix);
     }
 
     /**
-     * Divide two polynomial on the base of a XOR operation
+     * Print every step of a division of two polynomial on the base of a XOR operation
      *
-     * @return a rest of division
      * @since 1.0
      */
-    private int[] polynomialDivision(int[] firstPoly, int[] secondPoly) {
+    private void traceDivision(int[] firstPoly, int[] secondPoly) {
         int[] resultPoly = firstPoly.clone();
         int[] divPoly = new int[firstPoly.length];
         int degreeDifference = getPolyDegree(resultPoly) - getPolyDegree(secondPoly);
 
         while (degreeDifference >= 0) {
-            IntStream.range(0, divPoly.length).forEach(i -> divPoly[i] = 0);
+            Arrays.fill(divPoly, 0);
 
             for (int i = 0; i < secondPoly.length; i++) {
                 divPoly[getPolyOffset(resultPoly) + i] = secondPoly[i];
             }
 
-            printUtil.println().printArray(resultPoly).println()
+            tracer.getPrintUtil().println().printArray(resultPoly).println()
                     .println("-")
                     .printArray(divPoly).println();
 
@@ -186,12 +204,10 @@ public class CycleCode {
                 }
             }
 
-            printUtil.printArray(resultPoly).println();
+            tracer.getPrintUtil().printArray(resultPoly).println();
 
             degreeDifference = getPolyDegree(resultPoly) - getPolyDegree(secondPoly);
         }
-
-        return resultPoly;
     }
 
     /**
@@ -223,28 +239,18 @@ public class CycleCode {
     }
 
     /**
-     * Trim zeros from from the start of array
+     * Convert a remainder of the cyclic code engine to a polynomial with a given length
      *
-     * @return a trimmed poly
-     * @since 1.0
+     * @return a polynomial where the first element is the highest degree
+     * @since 1.4
      */
-    private int[] trimPolyZero(int[] polynomial) {
-        int trimTo = 0;
-        for (int i = 0; i < polynomial.length; i++) {
-            if (polynomial[i] == 1) {
-                trimTo = i;
-                break;
-            } else if (i == polynomial.length - 1) {
-                return new int[]{0};
-            }
-        }
-
-        int[] trimmedPoly = new int[polynomial.length - trimTo];
+    private int[] toPolynomial(long rest, int length) {
+        int[] polynomial = new int[length];
 
-        for (int i = trimTo; i < polynomial.length; i++) {
-            trimmedPoly[i - trimTo] = polynomial[i];
+        for (int i = 0; i < length && i < Long.SIZE; i++) {
+            polynomial[length - 1 - i] = (int) (rest >>> i) & 1;
         }
 
-        return trimmedPoly;
+        return polynomial;
     }
-}
\ No newline at end of file
+}
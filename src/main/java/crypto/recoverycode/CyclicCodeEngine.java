@@ -0,0 +1,126 @@
+package crypto.recoverycode;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Divide polynomials by a fixed generating polynomial with a shift register kept in a long.
+ * Eight bits of a dividend are processed by one lookup in a table of 256 precalculated remainders.
+ * If the degree of the generating polynomial is less than eight the register is widened to eight bits
+ * and the generating polynomial is shifted to its top
+ *
+ * @since 1.4
+ */
+public final class CyclicCodeEngine {
+
+    public static final int MAX_DEGREE = 63;
+
+    private static final ConcurrentMap<Long, CyclicCodeEngine> REGISTRY = new ConcurrentHashMap<>();
+
+    private final int degree;
+    private final int width;
+    private final int shift;
+    private final long polynomial;
+    private final long mask;
+    private final long[] table;
+
+    private CyclicCodeEngine(long generatingPolynomial, int degree) {
+        this.degree = degree;
+        this.width = Math.max(degree, Byte.SIZE);
+        this.shift = width - degree;
+        this.mask = -1L >>> (Long.SIZE - width);
+        this.polynomial = generatingPolynomial << shift & mask;
+        this.table = buildTable();
+    }
+
+    /**
+     * @return a cached engine for a given generating polynomial where the first element is the highest degree
+     * @since 1.4
+     */
+    public static CyclicCodeEngine getInstance(int[] generatingPolynomial) {
+        long value = 0;
+        int degree = -1;
+
+        for (int coefficient : generatingPolynomial) {
+            if (degree >= 0 || coefficient == 1) {
+                degree++;
+            }
+            if (degree > MAX_DEGREE) {
+                throw new IllegalArgumentException("degree of generating polynomial should not be more than "
+                        + MAX_DEGREE);
+            }
+            value = value << 1 | coefficient & 1;
+        }
+
+        if (degree < 1) {
+            throw new IllegalArgumentException("degree of generating polynomial should be positive");
+        }
+
+        final int polynomialDegree = degree;
+        final long polynomialValue = value;
+
+        return REGISTRY.computeIfAbsent(value, k -> new CyclicCodeEngine(polynomialValue, polynomialDegree));
+    }
+
+    /**
+     * Calculate remainders of every byte multiplied by x in the power of the register width
+     *
+     * @since 1.4
+     */
+    private long[] buildTable() {
+        long[] remainders = new long[1 << Byte.SIZE];
+
+        for (int i = 0; i < remainders.length; i++) {
+            long register = (long) i << (width - Byte.SIZE);
+            for (int j = 0; j < Byte.SIZE; j++) {
+                register = (register >>> (width - 1) & 1) == 1
+                        ? (register << 1 ^ polynomial) & mask
+                        : register << 1 & mask;
+            }
+            remainders[i] = register;
+        }
+
+        return remainders;
+    }
+
+    public int getDegree() {
+        return degree;
+    }
+
+    /**
+     * Divide a part of a given polynomial by the generating polynomial
+     *
+     * @param bits a polynomial where the first element is the highest degree
+     * @return a remainder of division where the bit i is the coefficient of x in the power of i
+     * @since 1.4
+     */
+    public long remainder(int[] bits, int offset, int length) {
+        int dividendLength = length - degree;
+        long register = 0;
+        int i = 0;
+
+        for (; i + Byte.SIZE <= dividendLength; i += Byte.SIZE) {
+            int value = 0;
+            for (int j = 0; j < Byte.SIZE; j++) {
+                value = value << 1 | bits[offset + i + j] & 1;
+            }
+            register = (register << Byte.SIZE ^ table[(int) (register >>> (width - Byte.SIZE) ^ value) & 0xFF]) & mask;
+        }
+
+        for (; i < dividendLength; i++) {
+            long top = (register >>> (width - 1) ^ bits[offset + i]) & 1;
+            register = register << 1 & mask;
+            if (top == 1) {
+                register ^= polynomial;
+            }
+        }
+
+        long rest = register >>> shift;
+
+        for (i = Math.max(0, dividendLength); i < length; i++) {
+            rest ^= (long) (bits[offset + i] & 1) << (length - 1 - i);
+        }
+
+        return rest;
+    }
+}
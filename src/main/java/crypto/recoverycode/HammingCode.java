@@ -1,5 +1,6 @@
 package crypto.recoverycode;
 
+import crypto.util.BitUtil;
 import crypto.util.PrintUtil;
 
 import java.io.PrintStream;
@@ -7,9 +8,11 @@ import java.io.PrintStream;
 public final class HammingCode {
 
     private final PrintUtil printUtil;
+    private final PackedHammingCode packedHammingCode;
 
     public HammingCode(PrintStream stream) {
         printUtil = new PrintUtil(stream);
+        packedHammingCode = new PackedHammingCode();
     }
 
     /**
@@ -19,32 +22,7 @@ public final class HammingCode {
      * @since 1.0
      */
     public int[][] getCheckMatrix(int numberOfInformationBytes, int numberOfRedundantBytes) {
-        int[][] matrix = new int[numberOfRedundantBytes][numberOfInformationBytes + numberOfRedundantBytes];
-        boolean key;
-        int counter = 0;
-
-        for (int i = 0; i < numberOfRedundantBytes; i++) {
-            key = false;
-            for (int j = 0; counter < numberOfInformationBytes; j++) {
-                if (j / Math.pow(2, i) % 1 == 0) {
-                    key = !key;
-                }
-
-                if (j == 0) {
-                    continue;
-                } else if (Math.log(j) / Math.log(2) % 1 == 0) {
-                    continue;
-                } else if (!key) {
-                    matrix[i][counter] = 1;
-                }
-                counter++;
-            }
-
-            counter = 0;
-            matrix[i][i + numberOfInformationBytes] = 1;
-        }
-
-        return matrix;
+        return HammingCodec.buildCheckMatrix(numberOfInformationBytes, numberOfRedundantBytes);
     }
 
     /**
@@ -87,7 +65,8 @@ public final class HammingCode {
     }
 
     /**
-     * Calculate redundant bytes on the base of a XOR operation
+     * Calculate redundant bytes on the base of a XOR operation.
+     * The message and the rows of the check matrix are packed and passed to {@link PackedHammingCode}
      *
      * @return redundant bytes
      * @since 1.0
@@ -95,11 +74,11 @@ public final class HammingCode {
     public int[] calculateRedundantBytes(int[][] checkMatrix, int[] message,
                                          int numberOfInformationBytes, int numberOfRedundantBytes) {
         int[] redundantBytes = new int[numberOfRedundantBytes];
+        long[] packedMessage = BitUtil.pack(message, 0, numberOfInformationBytes);
 
         for (int i = 0; i < numberOfRedundantBytes; i++) {
-            for (int j = 0; j < numberOfInformationBytes; j++) {
-                redundantBytes[i] = (redundantBytes[i] + message[j] * checkMatrix[i][j]) % 2;
-            }
+            redundantBytes[i] = packedHammingCode.calculateRedundantBit(
+                    BitUtil.pack(checkMatrix[i], 0, numberOfInformationBytes), packedMessage);
         }
 
         return redundantBytes;
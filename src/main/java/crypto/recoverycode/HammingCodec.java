@@ -0,0 +1,235 @@
+package crypto.recoverycode;
+
+import crypto.util.BitUtil;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Immutable hamming code for a fixed number of information and redundant bytes.
+ * The check matrix and the table of error positions indexed by a syndrome are calculated once,
+ * instances are cached and may be shared between threads
+ *
+ * @since 1.4
+ */
+public final class HammingCodec {
+
+    public static final int MAX_NUMBER_OF_REDUNDANT_BYTES = 20;
+    public static final int NO_ERROR = -1;
+    public static final int UNCORRECTABLE_ERROR = -2;
+
+    private static final ConcurrentMap<Long, HammingCodec> REGISTRY = new ConcurrentHashMap<>();
+
+    private final int numberOfInformationBytes;
+    private final int numberOfRedundantBytes;
+    private final int[][] checkMatrix;
+    private final long[][] packedCheckMatrix;
+    private final int[] errorPositions;
+    private final PackedHammingCode packedHammingCode;
+
+    private HammingCodec(int numberOfInformationBytes, int numberOfRedundantBytes) {
+        this.numberOfInformationBytes = numberOfInformationBytes;
+        this.numberOfRedundantBytes = numberOfRedundantBytes;
+        this.packedHammingCode = new PackedHammingCode();
+        this.checkMatrix = buildCheckMatrix(numberOfInformationBytes, numberOfRedundantBytes);
+        this.packedCheckMatrix = packedHammingCode.packCheckMatrix(checkMatrix, numberOfInformationBytes);
+        this.errorPositions = buildErrorPositions();
+    }
+
+    /**
+     * @return a cached codec for a given number of information and redundant bytes
+     * @since 1.4
+     */
+    public static HammingCodec getInstance(int numberOfInformationBytes, int numberOfRedundantBytes) {
+        if (numberOfInformationBytes < 1) {
+            throw new IllegalArgumentException("number of information bytes should be positive");
+        }
+        if (numberOfRedundantBytes < 1 || numberOfRedundantBytes > MAX_NUMBER_OF_REDUNDANT_BYTES) {
+            throw new IllegalArgumentException("number of redundant bytes should be from 1 to "
+                    + MAX_NUMBER_OF_REDUNDANT_BYTES);
+        }
+
+        long key = (long) numberOfInformationBytes << 32 | numberOfRedundantBytes;
+
+        return REGISTRY.computeIfAbsent(key, k -> new HammingCodec(numberOfInformationBytes, numberOfRedundantBytes));
+    }
+
+    /**
+     * Generate a check matrix without floating-point operations.
+     * A column of information bytes is the binary form of its number in the hamming code word
+     * skipping the powers of two, the redundant bytes form the identity matrix
+     *
+     * @return a check matrix
+     * @since 1.4
+     */
+    static int[][] buildCheckMatrix(int numberOfInformationBytes, int numberOfRedundantBytes) {
+        int[][] matrix = new int[numberOfRedundantBytes][numberOfInformationBytes + numberOfRedundantBytes];
+        int column = 0;
+
+        for (int j = 3; column < numberOfInformationBytes; j++) {
+            if ((j & (j - 1)) == 0) {
+                continue;
+            }
+            for (int i = 0; i < numberOfRedundantBytes && i < Integer.SIZE; i++) {
+                matrix[i][column] = j >>> i & 1;
+            }
+            column++;
+        }
+
+        for (int i = 0; i < numberOfRedundantBytes; i++) {
+            matrix[i][i + numberOfInformationBytes] = 1;
+        }
+
+        return matrix;
+    }
+
+    /**
+     * Build a table where the index is a syndrome and the value is a position of the first column
+     * of the check matrix that equals to the syndrome
+     *
+     * @since 1.4
+     */
+    private int[] buildErrorPositions() {
+        int codeWordLength = getCodeWordLength();
+        int[] positions = new int[1 << numberOfRedundantBytes];
+
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = UNCORRECTABLE_ERROR;
+        }
+
+        for (int i = codeWordLength - 1; i >= 0; i--) {
+            int syndrome = 0;
+            for (int j = 0; j < numberOfRedundantBytes; j++) {
+                syndrome |= checkMatrix[j][i] << j;
+            }
+            positions[syndrome] = i;
+        }
+
+        if (positions[0] == UNCORRECTABLE_ERROR) {
+            positions[0] = NO_ERROR;
+        }
+
+        return positions;
+    }
+
+    public int getNumberOfInformationBytes() {
+        return numberOfInformationBytes;
+    }
+
+    public int getNumberOfRedundantBytes() {
+        return numberOfRedundantBytes;
+    }
+
+    public int getCodeWordLength() {
+        return numberOfInformationBytes + numberOfRedundantBytes;
+    }
+
+    /**
+     * @return a copy of the check matrix
+     * @since 1.4
+     */
+    public int[][] getCheckMatrix() {
+        int[][] copy = new int[checkMatrix.length][];
+
+        for (int i = 0; i < checkMatrix.length; i++) {
+            copy[i] = checkMatrix[i].clone();
+        }
+
+        return copy;
+    }
+
+    /**
+     * Add redundant bytes to a packed message
+     *
+     * @return a packed encoded message
+     * @since 1.4
+     */
+    public long[] encode(long[] packedMessage) {
+        return packedHammingCode.encodeMessage(packedCheckMatrix, packedMessage,
+                numberOfInformationBytes, numberOfRedundantBytes);
+    }
+
+    /**
+     * Add redundant bytes to a message with one bit per int
+     *
+     * @return an encoded message
+     * @since 1.4
+     */
+    public int[] encodeMessage(int[] message) {
+        return BitUtil.unpack(encode(BitUtil.pack(message, 0, numberOfInformationBytes)), getCodeWordLength());
+    }
+
+    /**
+     * Calculate a syndrome of a packed encoded message.
+     * The bit i of the syndrome belongs to the row i of the check matrix
+     *
+     * @return a syndrome as bits of a number
+     * @since 1.4
+     */
+    public int calculateSyndrome(long[] packedCodeWord) {
+        return (int) packedHammingCode.getSyndrome(
+                packedHammingCode.getRedundantBits(packedCodeWord, numberOfInformationBytes, numberOfRedundantBytes),
+                packedHammingCode.calculateRedundantBits(packedCheckMatrix, packedCodeWord));
+    }
+
+    /**
+     * @return a position of the damaged byte, {@link #NO_ERROR} or {@link #UNCORRECTABLE_ERROR}
+     * @since 1.4
+     */
+    public int getErrorPosition(int syndrome) {
+        return errorPositions[syndrome];
+    }
+
+    /**
+     * Recover a given packed encoded message in place
+     *
+     * @return a position of the recovered byte, {@link #NO_ERROR} or {@link #UNCORRECTABLE_ERROR}
+     * @since 1.4
+     */
+    public int recover(long[] packedCodeWord) {
+        int position = errorPositions[calculateSyndrome(packedCodeWord)];
+
+        if (position >= 0) {
+            BitUtil.flipBit(packedCodeWord, position);
+        }
+
+        return position;
+    }
+
+    /**
+     * Recover an encoded message with one bit per int
+     *
+     * @return a recovered message
+     * @since 1.4
+     */
+    public int[] recoverMessage(int[] encodedMessage) {
+        long[] packedCodeWord = BitUtil.pack(encodedMessage, 0, getCodeWordLength());
+
+        recover(packedCodeWord);
+
+        return BitUtil.unpack(packedCodeWord, getCodeWordLength());
+    }
+
+    /**
+     * Calculate recovery bytes by a given syndrome with one bit per int
+     *
+     * @return recovery bytes
+     * @since 1.4
+     */
+    public int[] getRecoveryBytes(int[] syndrome) {
+        int[] recoveryBytes = new int[getCodeWordLength()];
+        int value = 0;
+
+        for (int i = 0; i < numberOfRedundantBytes; i++) {
+            value |= (syndrome[i] & 1) << i;
+        }
+
+        int position = errorPositions[value];
+
+        if (position >= 0) {
+            recoveryBytes[position] = 1;
+        }
+
+        return recoveryBytes;
+    }
+}
@@ -0,0 +1,215 @@
+package crypto.recoverycode;
+
+import crypto.util.BitReader;
+import crypto.util.BitUtil;
+import crypto.util.BitWriter;
+import crypto.util.ByteBufferUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Encode and decode streams of any length by the hamming way with a constant amount of memory.
+ * Bits of the input bytes are divided into blocks of information bytes and every block is written
+ * as a packed code word. The last block is completed by one and zeros, so the decoder can find the end of data.
+ * Blocks without ones after the last block are made of the zeros which complete the last byte of the stream
+ *
+ * @since 1.4
+ */
+public final class HammingStreamCode {
+
+    private final HammingCodec hammingCodec;
+
+    public HammingStreamCode(int numberOfInformationBytes, int numberOfRedundantBytes) {
+        this.hammingCodec = HammingCodec.getInstance(numberOfInformationBytes, numberOfRedundantBytes);
+    }
+
+    /**
+     * Encode all bytes of a given input stream into a given output stream
+     *
+     * @return a report with a number of encoded blocks
+     * @since 1.4
+     */
+    public Report encode(InputStream inputStream, OutputStream outputStream) throws IOException {
+        int numberOfInformationBytes = hammingCodec.getNumberOfInformationBytes();
+        BitReader reader = new BitReader(inputStream);
+        BitWriter writer = new BitWriter(outputStream);
+        long[] block = new long[BitUtil.getNumberOfWords(numberOfInformationBytes)];
+        long numberOfBlocks = 0;
+        int numberOfReadBits;
+
+        do {
+            numberOfReadBits = reader.read(block, numberOfInformationBytes);
+            if (numberOfReadBits < numberOfInformationBytes) {
+                BitUtil.setBit(block, numberOfReadBits);
+            }
+            writer.write(hammingCodec.encode(block), hammingCodec.getCodeWordLength());
+            numberOfBlocks++;
+        } while (numberOfReadBits == numberOfInformationBytes);
+
+        writer.finish();
+
+        return new Report(numberOfBlocks, 0, 0);
+    }
+
+    /**
+     * Decode all code words of a given input stream into a given output stream recovering single errors
+     *
+     * @return a report with numbers of decoded, recovered and uncorrectable blocks
+     * @since 1.4
+     */
+    public Report decode(InputStream inputStream, OutputStream outputStream) throws IOException {
+        int numberOfInformationBytes = hammingCodec.getNumberOfInformationBytes();
+        int codeWordLength = hammingCodec.getCodeWordLength();
+        BitReader reader = new BitReader(inputStream);
+        BitWriter writer = new BitWriter(outputStream);
+        long[] codeWord = new long[BitUtil.getNumberOfWords(codeWordLength)];
+        long[] previousBlock = new long[BitUtil.getNumberOfWords(numberOfInformationBytes)];
+        long[] zeroBlock = new long[previousBlock.length];
+        boolean hasPreviousBlock = false;
+        long numberOfZeroBlocks = 0;
+        long numberOfBlocks = 0;
+        long numberOfRecoveredBlocks = 0;
+        long numberOfUncorrectableBlocks = 0;
+
+        while (reader.read(codeWord, codeWordLength) == codeWordLength) {
+            int position = hammingCodec.recover(codeWord);
+            if (position >= 0) {
+                numberOfRecoveredBlocks++;
+            } else if (position == HammingCodec.UNCORRECTABLE_ERROR) {
+                numberOfUncorrectableBlocks++;
+            }
+            numberOfBlocks++;
+
+            if (isZeroBlock(codeWord, numberOfInformationBytes)) {
+                numberOfZeroBlocks++;
+                continue;
+            }
+
+            if (hasPreviousBlock) {
+                writer.write(previousBlock, numberOfInformationBytes);
+            }
+            for (; numberOfZeroBlocks > 0; numberOfZeroBlocks--) {
+                writer.write(zeroBlock, numberOfInformationBytes);
+            }
+            BitUtil.copyBits(codeWord, 0, previousBlock, 0, numberOfInformationBytes);
+            hasPreviousBlock = true;
+        }
+
+        if (hasPreviousBlock) {
+            writer.write(previousBlock, findEndOfData(previousBlock, numberOfInformationBytes));
+        } else if (numberOfBlocks > 0) {
+            throw new IOException("the end of data is not found");
+        }
+
+        writer.finish();
+
+        return new Report(numberOfBlocks - numberOfZeroBlocks, numberOfRecoveredBlocks, numberOfUncorrectableBlocks);
+    }
+
+    /**
+     * Encode the remaining bytes of a given source buffer into a given destination buffer
+     *
+     * @return a report with a number of encoded blocks
+     * @since 1.4
+     */
+    public Report encode(ByteBuffer source, ByteBuffer destination) {
+        try {
+            return encode(ByteBufferUtil.asInputStream(source), ByteBufferUtil.asOutputStream(destination));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Decode the remaining bytes of a given source buffer into a given destination buffer
+     *
+     * @return a report with numbers of decoded, recovered and uncorrectable blocks
+     * @since 1.4
+     */
+    public Report decode(ByteBuffer source, ByteBuffer destination) {
+        try {
+            return decode(ByteBufferUtil.asInputStream(source), ByteBufferUtil.asOutputStream(destination));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return a number of bytes of an encoded stream for a given number of input bytes
+     * @since 1.4
+     */
+    public long getEncodedLength(long numberOfBytes) {
+        long numberOfBlocks = numberOfBytes * Byte.SIZE / hammingCodec.getNumberOfInformationBytes() + 1;
+
+        return (numberOfBlocks * hammingCodec.getCodeWordLength() + Byte.SIZE - 1) / Byte.SIZE;
+    }
+
+    /**
+     * @return true if all information bytes of a given code word are zeros
+     */
+    private boolean isZeroBlock(long[] codeWord, int numberOfInformationBytes) {
+        int numberOfFullWords = numberOfInformationBytes / BitUtil.WORD_LENGTH;
+
+        for (int i = 0; i < numberOfFullWords; i++) {
+            if (codeWord[i] != 0) {
+                return false;
+            }
+        }
+
+        int rest = numberOfInformationBytes % BitUtil.WORD_LENGTH;
+
+        return rest == 0 || BitUtil.getBits(codeWord, numberOfFullWords * BitUtil.WORD_LENGTH, rest) == 0;
+    }
+
+    /**
+     * @return a position of the one that completes the last block
+     */
+    private int findEndOfData(long[] block, int numberOfInformationBytes) {
+        for (int i = BitUtil.getNumberOfWords(numberOfInformationBytes) - 1; i >= 0; i--) {
+            if (block[i] != 0) {
+                return i * BitUtil.WORD_LENGTH + BitUtil.WORD_LENGTH - 1 - Long.numberOfTrailingZeros(block[i]);
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Numbers of blocks which have been processed by the stream code
+     *
+     * @since 1.4
+     */
+    public static final class Report {
+        private final long numberOfBlocks;
+        private final long numberOfRecoveredBlocks;
+        private final long numberOfUncorrectableBlocks;
+
+        private Report(long numberOfBlocks, long numberOfRecoveredBlocks, long numberOfUncorrectableBlocks) {
+            this.numberOfBlocks = numberOfBlocks;
+            this.numberOfRecoveredBlocks = numberOfRecoveredBlocks;
+            this.numberOfUncorrectableBlocks = numberOfUncorrectableBlocks;
+        }
+
+        public long getNumberOfBlocks() {
+            return numberOfBlocks;
+        }
+
+        public long getNumberOfRecoveredBlocks() {
+            return numberOfRecoveredBlocks;
+        }
+
+        public long getNumberOfUncorrectableBlocks() {
+            return numberOfUncorrectableBlocks;
+        }
+
+        @Override
+        public String toString() {
+            return "blocks: " + numberOfBlocks + ", recovered: " + numberOfRecoveredBlocks
+                    + ", uncorrectable: " + numberOfUncorrectableBlocks;
+        }
+    }
+}
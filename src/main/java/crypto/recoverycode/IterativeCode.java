@@ -1,5 +1,6 @@
 package crypto.recoverycode;
 
+import crypto.util.BitUtil;
 import crypto.util.PrintUtil;
 
 import java.io.PrintStream;
@@ -14,49 +15,54 @@ public class IterativeCode {
     }
 
     /**
-     * Build a matrix which will be used to encode any message by iterative coding way
+     * Build a matrix which will be used to encode any message by iterative coding way.
+     * Redundant bytes are calculated by {@link IterativeCodec}
      *
      * @since 1.0
      */
     public int[][] buildMatrix(int[] message, int numberOfRows, int numberOfColumns) {
-        int[][] matrix = new int[numberOfRows + 1][numberOfColumns + 1];
-        for (int i = 0; i < numberOfRows; i++) {
-            for (int j = 0; j < numberOfColumns; j++) {
-                if (message[i * numberOfColumns + j] == 1) {
-                    matrix[i][j] = 1;
-                    matrix[i][numberOfColumns] = (matrix[i][numberOfColumns] + 1) % 2;
-                    matrix[numberOfRows][j] = (matrix[numberOfRows][j] + 1) % 2;
-                }
-            }
-        }
-
-        matrix[numberOfRows][numberOfColumns] = calculateTotalSum(matrix);
-
-        return matrix;
+        return toMatrix(BitUtil.pack(message, 0, numberOfRows * numberOfColumns), numberOfRows, numberOfColumns);
     }
 
     /**
-     * Add redundant bytes to a matrix which have filled by a message
+     * Add redundant bytes to a matrix which have filled by a message.
+     * Redundant bytes are calculated by {@link IterativeCodec}
      *
      * @return a matrix with redundant bytes
      * @since 1.0
      */
     public int[][] addRedundantBytes(int[][] matrix, int numberOfRows, int numberOfColumns) {
-        int[][] matrixWithRedundantBytes = new int[numberOfRows + 1][numberOfColumns + 1];
+        long[] packedMessage = new long[BitUtil.getNumberOfWords(numberOfRows * numberOfColumns)];
+
+        for (int i = 0; i < numberOfRows; i++) {
+            BitUtil.copyBits(BitUtil.pack(matrix[i], 0, numberOfColumns), 0, packedMessage, i * numberOfColumns,
+                    numberOfColumns);
+        }
+
+        return toMatrix(packedMessage, numberOfRows, numberOfColumns);
+    }
+
+    /**
+     * @return a matrix of a packed message with redundant bytes on the sides
+     * @since 1.4
+     */
+    private int[][] toMatrix(long[] packedMessage, int numberOfRows, int numberOfColumns) {
+        long[] redundantBits = new IterativeCodec(numberOfRows, numberOfColumns).calculateRedundantBits(packedMessage);
+        int[][] matrix = new int[numberOfRows + 1][];
 
         for (int i = 0; i < numberOfRows; i++) {
+            matrix[i] = new int[numberOfColumns + 1];
             for (int j = 0; j < numberOfColumns; j++) {
-                if (matrix[i][j] == 1) {
-                    matrixWithRedundantBytes[i][j] = 1;
-                    matrixWithRedundantBytes[i][numberOfColumns] = (matrixWithRedundantBytes[i][numberOfColumns] + 1) % 2;
-                    matrixWithRedundantBytes[numberOfRows][j] = (matrixWithRedundantBytes[numberOfRows][j] + 1) % 2;
-                }
+                matrix[i][j] = BitUtil.getBit(packedMessage, i * numberOfColumns + j);
             }
+            matrix[i][numberOfColumns] = BitUtil.getBit(redundantBits, i);
+        }
+        matrix[numberOfRows] = new int[numberOfColumns + 1];
+        for (int j = 0; j <= numberOfColumns; j++) {
+            matrix[numberOfRows][j] = BitUtil.getBit(redundantBits, numberOfRows + j);
         }
 
-        matrixWithRedundantBytes[numberOfRows][numberOfColumns] = calculateTotalSum(matrixWithRedundantBytes);
-
-        return matrixWithRedundantBytes;
+        return matrix;
     }
 
     /**
@@ -160,35 +166,17 @@ public class IterativeCode {
      * @since 1.0
      */
     public int[] calculateRedundantBytes(int[] messageWithoutRedundantBytes, int numberOfRows, int numberOfColumns) {
-        int[][] matrix = buildMatrix(messageWithoutRedundantBytes, numberOfRows, numberOfColumns);
+        IterativeCodec iterativeCodec = new IterativeCodec(numberOfRows, numberOfColumns);
+        long[] packedMessage = BitUtil.pack(messageWithoutRedundantBytes, 0, numberOfRows * numberOfColumns);
 
-        return getRedundantBytesFromMatrix(matrix, numberOfRows, numberOfColumns);
+        return BitUtil.unpack(iterativeCodec.calculateRedundantBits(packedMessage),
+                iterativeCodec.getNumberOfRedundantBytes());
     }
 
     /**
-     * Calculate a parity of the parities which have been calculated on the base of all bytes of the message
-     * except the last byte that is the parity of parities
-     *
-     * @return a parity of the parities
-     * @since 1.0
-     */
-    private int calculateTotalSum(int[][] matrix) {
-        int totalSum = 0;
-
-        for (int i = 0; i < matrix.length; i++) {
-            for (int j = 0; j < matrix[0].length; j++) {
-                if (i == matrix.length - 1 && j == matrix[0].length - 1) {
-                    break;
-                }
-                totalSum += matrix[i][j];
-            }
-        }
-
-        return totalSum % 2;
-    }
-
-    /**
-     * Calculate a syndrome that consists an error state which will be used to calculate recovery bytes
+     * Calculate a syndrome that consists an error state which will be used to calculate recovery bytes.
+     * The last byte is a parity of all bytes of the message except the last byte
+     * compared with the calculated parity of information bytes
      *
      * @return a syndrome of message
      * @since 1.0
@@ -201,8 +189,12 @@ public class IterativeCode {
             syndrome[i] = redundantBytes[i] ^ calculatedRedundantBytes[i];
         }
 
-        syndrome[syndrome.length - 1] = calculateTotalSum(convertMessageToMatrix(message, numberOfRows, numberOfColumns))
-                ^ calculatedRedundantBytes[calculatedRedundantBytes.length - 1];
+        int totalSum = 0;
+        for (int i = 0; i < numberOfRows * numberOfColumns + numberOfRows + numberOfColumns; i++) {
+            totalSum += message[i];
+        }
+
+        syndrome[syndrome.length - 1] = totalSum % 2 ^ calculatedRedundantBytes[calculatedRedundantBytes.length - 1];
 
         return syndrome;
     }
@@ -243,6 +235,33 @@ public class IterativeCode {
         return recoveryBytes;
     }
 
+    /**
+     * Calculate recovery bytes of a received message with redundant bytes, see {@link IterativeCodec#recover(long[])}.
+     * Unlike {@link #getRecoveryBytes(int[], int, int)} a damaged redundant byte is recovered without a resending
+     * and several damaged rows or columns are not recovered by a guess
+     *
+     * @return recovery bytes or an empty array if the message should be resent
+     * @since 1.4
+     */
+    public int[] getRecoveryBytesOfMessage(int[] messageWithRedundantBytes, int numberOfRows, int numberOfColumns) {
+        IterativeCodec iterativeCodec = new IterativeCodec(numberOfRows, numberOfColumns);
+        long[] packedCodeWord = BitUtil.pack(messageWithRedundantBytes, 0, iterativeCodec.getCodeWordLength());
+        long[] receivedCodeWord = packedCodeWord.clone();
+
+        if (iterativeCodec.recover(packedCodeWord) == IterativeCodec.UNCORRECTABLE_ERROR) {
+            printUtil.println("there is a need to resend");
+            return new int[0];
+        }
+
+        int[] recoveryBytes = new int[numberOfRows * numberOfColumns];
+
+        for (int i = 0; i < recoveryBytes.length; i++) {
+            recoveryBytes[i] = BitUtil.getBit(packedCodeWord, i) ^ BitUtil.getBit(receivedCodeWord, i);
+        }
+
+        return recoveryBytes;
+    }
+
     /**
      * Recover a given message by a XOR operation using the recovery bytes
      *
@@ -0,0 +1,249 @@
+package crypto.recoverycode;
+
+import crypto.util.BitUtil;
+
+/**
+ * Immutable iterative (product) code for a fixed number of rows and columns with packed bits.
+ * A code word has the layout of {@link IterativeCode}: information bytes row by row, parities of rows,
+ * parities of columns and the parity of information bytes.
+ * Every row is read by chunks of 64 bits, a parity of a row is a parity of population counts of the chunks
+ * and parities of columns are XOR of chunks of all rows, so the redundant bytes and the syndrome
+ * are calculated in one pass over information bytes
+ *
+ * @since 1.4
+ */
+public final class IterativeCodec {
+
+    public static final int UNCORRECTABLE_ERROR = -1;
+
+    private final int numberOfRows;
+    private final int numberOfColumns;
+
+    public IterativeCodec(int numberOfRows, int numberOfColumns) {
+        if (numberOfRows < 1 || numberOfColumns < 1) {
+            throw new IllegalArgumentException("number of rows and columns should be positive");
+        }
+        if ((long) numberOfRows * numberOfColumns + numberOfRows + numberOfColumns + 1 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("code word should be shorter than " + Integer.MAX_VALUE + " bits");
+        }
+
+        this.numberOfRows = numberOfRows;
+        this.numberOfColumns = numberOfColumns;
+    }
+
+    public int getNumberOfRows() {
+        return numberOfRows;
+    }
+
+    public int getNumberOfColumns() {
+        return numberOfColumns;
+    }
+
+    public int getNumberOfInformationBytes() {
+        return numberOfRows * numberOfColumns;
+    }
+
+    public int getNumberOfRedundantBytes() {
+        return numberOfRows + numberOfColumns + 1;
+    }
+
+    public int getCodeWordLength() {
+        return getNumberOfInformationBytes() + getNumberOfRedundantBytes();
+    }
+
+    /**
+     * Calculate parities of rows, parities of columns and the parity of information bytes
+     * of a packed message or of a packed code word
+     *
+     * @return packed redundant bytes
+     * @since 1.4
+     */
+    public long[] calculateRedundantBits(long[] packedMessage) {
+        long[] redundantBits = new long[BitUtil.getNumberOfWords(getNumberOfRedundantBytes())];
+        long[] columnParities = new long[BitUtil.getNumberOfWords(numberOfColumns)];
+        int totalParity = 0;
+
+        for (int i = 0; i < numberOfRows; i++) {
+            int rowParity = foldRow(packedMessage, i, columnParities);
+            if (rowParity != 0) {
+                BitUtil.setBit(redundantBits, i);
+            }
+            totalParity ^= rowParity;
+        }
+
+        BitUtil.copyBits(columnParities, 0, redundantBits, numberOfRows, numberOfColumns);
+        if (totalParity != 0) {
+            BitUtil.setBit(redundantBits, numberOfRows + numberOfColumns);
+        }
+
+        return redundantBits;
+    }
+
+    /**
+     * Add redundant bytes to a packed message
+     *
+     * @return a packed code word
+     * @since 1.4
+     */
+    public long[] encode(long[] packedMessage) {
+        int numberOfInformationBytes = getNumberOfInformationBytes();
+        long[] codeWord = new long[BitUtil.getNumberOfWords(getCodeWordLength())];
+
+        BitUtil.copyBits(packedMessage, 0, codeWord, 0, numberOfInformationBytes);
+        BitUtil.copyBits(calculateRedundantBits(packedMessage), 0, codeWord, numberOfInformationBytes,
+                getNumberOfRedundantBytes());
+
+        return codeWord;
+    }
+
+    /**
+     * Calculate a syndrome of a packed code word in one pass.
+     * The bit i of the syndrome shows a damaged row i, the bit numberOfRows + j shows a damaged column j,
+     * the last bit shows that the parity of the received parities of rows differs from the parity of the received
+     * parities of columns, that is the sign of a damaged redundant byte
+     *
+     * @return a packed syndrome of the length of redundant bytes
+     * @since 1.4
+     */
+    public long[] calculateSyndrome(long[] packedCodeWord) {
+        long[] syndrome = new long[BitUtil.getNumberOfWords(getNumberOfRedundantBytes())];
+        long[] rowChecks = new long[BitUtil.getNumberOfWords(numberOfRows + 1)];
+        long[] columnChecks = new long[BitUtil.getNumberOfWords(numberOfColumns + 1)];
+
+        calculateChecks(packedCodeWord, rowChecks, columnChecks);
+
+        BitUtil.copyBits(rowChecks, 0, syndrome, 0, numberOfRows);
+        BitUtil.copyBits(columnChecks, 0, syndrome, numberOfRows, numberOfColumns);
+        if ((BitUtil.getBit(rowChecks, numberOfRows) ^ BitUtil.getBit(columnChecks, numberOfColumns)) != 0) {
+            BitUtil.setBit(syndrome, numberOfRows + numberOfColumns);
+        }
+
+        return syndrome;
+    }
+
+    /**
+     * Recover a packed code word in place.
+     * The code word is taken as a matrix of numberOfRows + 1 rows and numberOfColumns + 1 columns with parities
+     * of rows in the last column, parities of columns in the last row and the parity of information bytes
+     * in the corner, so every row and every column of the matrix has an even parity, redundant bytes included.
+     * Only one damaged row with one damaged column is recovered by flipping their common byte.
+     * Other syndromes have several explanations of the same weight, for example errors at (0, 1), (1, 1) and (2, 0)
+     * damage the rows 0, 1, 2 and the column 0 as errors at (0, 0), (1, 0) and (2, 0) do,
+     * so such a code word is not changed. Three errors may still look like one error,
+     * the code corrects one error and detects two
+     *
+     * @return a number of recovered bytes or {@link #UNCORRECTABLE_ERROR}
+     * @since 1.4
+     */
+    public int recover(long[] packedCodeWord) {
+        long[] rowChecks = new long[BitUtil.getNumberOfWords(numberOfRows + 1)];
+        long[] columnChecks = new long[BitUtil.getNumberOfWords(numberOfColumns + 1)];
+
+        calculateChecks(packedCodeWord, rowChecks, columnChecks);
+
+        int numberOfDamagedRows = countBits(rowChecks);
+        int numberOfDamagedColumns = countBits(columnChecks);
+
+        if (numberOfDamagedRows == 0 && numberOfDamagedColumns == 0) {
+            return 0;
+        }
+        if (numberOfDamagedRows != 1 || numberOfDamagedColumns != 1) {
+            return UNCORRECTABLE_ERROR;
+        }
+
+        BitUtil.flipBit(packedCodeWord, getPosition(getFirstBit(rowChecks), getFirstBit(columnChecks)));
+
+        return 1;
+    }
+
+    /**
+     * Calculate parities of rows and columns of a code word taken as a matrix with redundant bytes on the sides,
+     * see {@link #recover(long[])}
+     */
+    private void calculateChecks(long[] packedCodeWord, long[] rowChecks, long[] columnChecks) {
+        int numberOfInformationBytes = getNumberOfInformationBytes();
+        int corner = BitUtil.getBit(packedCodeWord, numberOfInformationBytes + numberOfRows + numberOfColumns);
+        long[] columnParities = new long[BitUtil.getNumberOfWords(numberOfColumns)];
+        int parityOfRowParities = 0;
+
+        for (int i = 0; i < numberOfRows; i++) {
+            int receivedParity = BitUtil.getBit(packedCodeWord, numberOfInformationBytes + i);
+            if ((foldRow(packedCodeWord, i, columnParities) ^ receivedParity) != 0) {
+                BitUtil.setBit(rowChecks, i);
+            }
+            parityOfRowParities ^= receivedParity;
+        }
+
+        int columnParitiesPosition = numberOfInformationBytes + numberOfRows;
+        int parityOfColumnParities = 0;
+        for (int k = 0; k < numberOfColumns; k += BitUtil.WORD_LENGTH) {
+            int length = Math.min(BitUtil.WORD_LENGTH, numberOfColumns - k);
+            long received = BitUtil.getBits(packedCodeWord, columnParitiesPosition + k, length);
+            long calculated = BitUtil.getBits(columnParities, k, length);
+            BitUtil.setBits(columnChecks, k, received ^ calculated, length);
+            parityOfColumnParities ^= Long.bitCount(received);
+        }
+
+        if (((parityOfColumnParities ^ corner) & 1) != 0) {
+            BitUtil.setBit(rowChecks, numberOfRows);
+        }
+        if ((parityOfRowParities ^ corner) != 0) {
+            BitUtil.setBit(columnChecks, numberOfColumns);
+        }
+    }
+
+    /**
+     * @return a position in a code word of a byte of the matrix with redundant bytes on the sides
+     */
+    private int getPosition(int row, int column) {
+        int numberOfInformationBytes = getNumberOfInformationBytes();
+
+        if (row < numberOfRows) {
+            return column < numberOfColumns ? row * numberOfColumns + column : numberOfInformationBytes + row;
+        }
+
+        return numberOfInformationBytes + numberOfRows + column;
+    }
+
+    private static int countBits(long[] words) {
+        int count = 0;
+
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+
+        return count;
+    }
+
+    /**
+     * @return an index of the first set bit or -1
+     */
+    private static int getFirstBit(long[] words) {
+        for (int w = 0; w < words.length; w++) {
+            if (words[w] != 0) {
+                return (w << 6) + Long.numberOfLeadingZeros(words[w]);
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * XOR chunks of a row with a given index into the parities of columns
+     *
+     * @return a parity of the row
+     */
+    private int foldRow(long[] packedWord, int row, long[] columnParities) {
+        int position = row * numberOfColumns;
+        int parity = 0;
+
+        for (int k = 0, w = 0; k < numberOfColumns; k += BitUtil.WORD_LENGTH, w++) {
+            int length = Math.min(BitUtil.WORD_LENGTH, numberOfColumns - k);
+            long chunk = BitUtil.getBits(packedWord, position + k, length) << (BitUtil.WORD_LENGTH - length);
+            parity ^= Long.bitCount(chunk);
+            columnParities[w] ^= chunk;
+        }
+
+        return parity & 1;
+    }
+}
@@ -1,15 +1,23 @@
 package crypto.recoverycode;
 
-import crypto.util.PrintUtil;
+import crypto.util.Tracer;
 
 import java.io.PrintStream;
 
 public class ModifiedHammingCode {
 
-    private final PrintUtil printUtil;
+    private final Tracer tracer;
 
     public ModifiedHammingCode(PrintStream stream) {
-        this.printUtil = new PrintUtil(stream);
+        this(Tracer.verbose(stream));
+    }
+
+    /**
+     * @param tracer prints the modified check matrix
+     * @since 1.4
+     */
+    public ModifiedHammingCode(Tracer tracer) {
+        this.tracer = tracer;
     }
 
     /**
@@ -30,7 +38,9 @@ public class ModifiedHammingCode {
             modifiedCheckMatrix[modifiedCheckMatrix.length - 1][i] = 1;
         }
 
-        printUtil.printMatrix(modifiedCheckMatrix);
+        if (tracer.isEnabled()) {
+            tracer.getPrintUtil().printMatrix(modifiedCheckMatrix);
+        }
         sumMatrixColumn(modifiedCheckMatrix);
 
         return modifiedCheckMatrix;
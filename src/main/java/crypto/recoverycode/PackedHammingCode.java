@@ -0,0 +1,109 @@
+package crypto.recoverycode;
+
+import crypto.util.BitUtil;
+
+/**
+ * Hamming code over messages packed into long words.
+ * Each parity bit is calculated by AND of a packed check matrix row and a packed message
+ * and population count of the result
+ *
+ * @since 1.4
+ */
+public final class PackedHammingCode {
+
+    /**
+     * Pack the information part of every row of a given check matrix
+     *
+     * @return a packed check matrix
+     * @since 1.4
+     */
+    public long[][] packCheckMatrix(int[][] checkMatrix, int numberOfInformationBytes) {
+        long[][] packedCheckMatrix = new long[checkMatrix.length][];
+
+        for (int i = 0; i < checkMatrix.length; i++) {
+            packedCheckMatrix[i] = BitUtil.pack(checkMatrix[i], 0, numberOfInformationBytes);
+        }
+
+        return packedCheckMatrix;
+    }
+
+    /**
+     * Calculate a redundant byte of one row of a packed check matrix
+     *
+     * @return zero or one
+     * @since 1.4
+     */
+    public int calculateRedundantBit(long[] packedCheckMatrixRow, long[] packedMessage) {
+        return BitUtil.parityOfProduct(packedCheckMatrixRow, packedMessage);
+    }
+
+    /**
+     * Calculate redundant bytes of a packed message.
+     * The redundant byte of the row i is placed in the bit i of the result
+     *
+     * @return redundant bytes as bits of a number
+     * @since 1.4
+     */
+    public long calculateRedundantBits(long[][] packedCheckMatrix, long[] packedMessage) {
+        checkNumberOfRedundantBytes(packedCheckMatrix.length);
+
+        long redundantBits = 0;
+
+        for (int i = 0; i < packedCheckMatrix.length; i++) {
+            redundantBits |= (long) calculateRedundantBit(packedCheckMatrix[i], packedMessage) << i;
+        }
+
+        return redundantBits;
+    }
+
+    /**
+     * Add to a given packed message redundant bytes on the base of a packed check matrix
+     *
+     * @return a packed encoded message
+     * @since 1.4
+     */
+    public long[] encodeMessage(long[][] packedCheckMatrix, long[] packedMessage,
+                                int numberOfInformationBytes, int numberOfRedundantBytes) {
+        checkNumberOfRedundantBytes(numberOfRedundantBytes);
+
+        long[] codeWord = new long[BitUtil.getNumberOfWords(numberOfInformationBytes + numberOfRedundantBytes)];
+        long redundantBits = calculateRedundantBits(packedCheckMatrix, packedMessage);
+
+        BitUtil.copyBits(packedMessage, 0, codeWord, 0, numberOfInformationBytes);
+        BitUtil.setBits(codeWord, numberOfInformationBytes,
+                Long.reverse(redundantBits) >>> (BitUtil.WORD_LENGTH - numberOfRedundantBytes),
+                numberOfRedundantBytes);
+
+        return codeWord;
+    }
+
+    /**
+     * Cut the redundant bytes of a packed encoded message.
+     * The redundant byte with index i is placed in the bit i of the result
+     *
+     * @return redundant bytes as bits of a number
+     * @since 1.4
+     */
+    public long getRedundantBits(long[] packedCodeWord, int numberOfInformationBytes, int numberOfRedundantBytes) {
+        checkNumberOfRedundantBytes(numberOfRedundantBytes);
+
+        return Long.reverse(BitUtil.getBits(packedCodeWord, numberOfInformationBytes, numberOfRedundantBytes))
+                >>> (BitUtil.WORD_LENGTH - numberOfRedundantBytes);
+    }
+
+    /**
+     * Calculate a syndrome of packed redundant bytes
+     *
+     * @return a syndrome as bits of a number
+     * @since 1.4
+     */
+    public long getSyndrome(long redundantBits, long calculatedRedundantBits) {
+        return redundantBits ^ calculatedRedundantBits;
+    }
+
+    private void checkNumberOfRedundantBytes(int numberOfRedundantBytes) {
+        if (numberOfRedundantBytes < 1 || numberOfRedundantBytes > BitUtil.WORD_LENGTH) {
+            throw new IllegalArgumentException("number of redundant bytes should be from 1 to 64");
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package crypto.recoverycode;
+
+/**
+ * Syndrome kernel with one code word per long operation, used when the vector API is not available
+ *
+ * @since 1.4
+ */
+final class ScalarSyndromeKernel implements SyndromeKernel {
+
+    @Override
+    public void calculateSyndromes(long[][] packedCheckMatrix, long[][] codeWords, int numberOfCodeWords,
+                                   long[][] syndromes) {
+        long[] accumulators = new long[numberOfCodeWords];
+
+        for (int row = 0; row < packedCheckMatrix.length; row++) {
+            long[] checkMatrixRow = packedCheckMatrix[row];
+
+            for (int w = 0; w < checkMatrixRow.length; w++) {
+                long mask = checkMatrixRow[w];
+                if (mask == 0) {
+                    continue;
+                }
+                long[] words = codeWords[w];
+                for (int i = 0; i < numberOfCodeWords; i++) {
+                    accumulators[i] ^= words[i] & mask;
+                }
+            }
+
+            long[] syndromeWords = syndromes[row >>> 6];
+            int shift = ~row & 63;
+            for (int i = 0; i < numberOfCodeWords; i++) {
+                syndromeWords[i] |= (long) (Long.bitCount(accumulators[i]) & 1) << shift;
+                accumulators[i] = 0;
+            }
+        }
+    }
+
+    @Override
+    public boolean isVectorized() {
+        return false;
+    }
+}
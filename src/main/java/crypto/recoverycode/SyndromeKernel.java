@@ -0,0 +1,24 @@
+package crypto.recoverycode;
+
+/**
+ * Calculation of syndromes of many code words laid out as a structure of arrays,
+ * see {@link BatchSyndromeCalculator}
+ *
+ * @since 1.4
+ */
+interface SyndromeKernel {
+
+    /**
+     * Calculate the syndromes of the first code words.
+     * The word w of the code word i is codeWords[w][i], the syndrome is written the same way
+     * into zeroed syndromes, the bit j of a syndrome is a parity of the row j of the check matrix
+     * AND the code word
+     */
+    void calculateSyndromes(long[][] packedCheckMatrix, long[][] codeWords, int numberOfCodeWords,
+                            long[][] syndromes);
+
+    /**
+     * @return true if the kernel uses vector instructions
+     */
+    boolean isVectorized();
+}
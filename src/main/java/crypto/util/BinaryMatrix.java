@@ -0,0 +1,351 @@
+package crypto.util;
+
+import java.util.Arrays;
+
+/**
+ * A matrix over GF(2) with every row packed into long words as {@link BitUtil} does.
+ * Adding rows is a XOR of words, rows are swapped by references.
+ * Products are calculated by the method of four Russians: the rows of the second matrix are taken by groups
+ * of eight, all 256 sums of a group are tabulated once and every row of the first matrix adds one sum per group
+ *
+ * @since 1.4
+ */
+public final class BinaryMatrix {
+
+    private static final int GROUP_SIZE = 8;
+
+    private final long[][] rows;
+    private final int numberOfColumns;
+
+    public BinaryMatrix(int numberOfRows, int numberOfColumns) {
+        if (numberOfRows < 0 || numberOfColumns < 0) {
+            throw new IllegalArgumentException("size of matrix should not be negative");
+        }
+
+        this.rows = new long[numberOfRows][BitUtil.getNumberOfWords(numberOfColumns)];
+        this.numberOfColumns = numberOfColumns;
+    }
+
+    private BinaryMatrix(long[][] rows, int numberOfColumns) {
+        this.rows = rows;
+        this.numberOfColumns = numberOfColumns;
+    }
+
+    /**
+     * Pack a given matrix with one bit per int, only the lowest bit of every value is taken
+     *
+     * @return a packed matrix
+     * @since 1.4
+     */
+    public static BinaryMatrix fromArray(int[][] matrix) {
+        BinaryMatrix binaryMatrix = new BinaryMatrix(matrix.length, matrix.length == 0 ? 0 : matrix[0].length);
+
+        for (int i = 0; i < matrix.length; i++) {
+            if (matrix[i].length != binaryMatrix.numberOfColumns) {
+                throw new IllegalArgumentException("rows of matrix should have the same length");
+            }
+            for (int j = 0; j < matrix[i].length; j++) {
+                if ((matrix[i][j] & 1) != 0) {
+                    BitUtil.setBit(binaryMatrix.rows[i], j);
+                }
+            }
+        }
+
+        return binaryMatrix;
+    }
+
+    /**
+     * @return an identity matrix of a given size
+     * @since 1.4
+     */
+    public static BinaryMatrix identity(int size) {
+        BinaryMatrix matrix = new BinaryMatrix(size, size);
+
+        for (int i = 0; i < size; i++) {
+            BitUtil.setBit(matrix.rows[i], i);
+        }
+
+        return matrix;
+    }
+
+    /**
+     * @return a matrix with one bit per int
+     * @since 1.4
+     */
+    public int[][] toArray() {
+        int[][] matrix = new int[rows.length][];
+
+        for (int i = 0; i < rows.length; i++) {
+            matrix[i] = BitUtil.unpack(rows[i], numberOfColumns);
+        }
+
+        return matrix;
+    }
+
+    /**
+     * Write rows into a given matrix with one bit per int
+     *
+     * @since 1.4
+     */
+    public void toArray(int[][] matrix) {
+        for (int i = 0; i < rows.length; i++) {
+            for (int j = 0; j < numberOfColumns; j++) {
+                matrix[i][j] = BitUtil.getBit(rows[i], j);
+            }
+        }
+    }
+
+    public int getNumberOfRows() {
+        return rows.length;
+    }
+
+    public int getNumberOfColumns() {
+        return numberOfColumns;
+    }
+
+    public int get(int row, int column) {
+        return BitUtil.getBit(rows[row], column);
+    }
+
+    public void set(int row, int column, int bit) {
+        if (BitUtil.getBit(rows[row], column) != (bit & 1)) {
+            BitUtil.flipBit(rows[row], column);
+        }
+    }
+
+    /**
+     * @return a copy of the packed row with a given index
+     * @since 1.4
+     */
+    public long[] getRow(int row) {
+        return rows[row].clone();
+    }
+
+    /**
+     * Add the source row to the target row
+     *
+     * @since 1.4
+     */
+    public void xorRows(int target, int source) {
+        long[] targetRow = rows[target];
+        long[] sourceRow = rows[source];
+
+        for (int i = 0; i < targetRow.length; i++) {
+            targetRow[i] ^= sourceRow[i];
+        }
+    }
+
+    /**
+     * @since 1.4
+     */
+    public void swapRows(int first, int second) {
+        long[] row = rows[first];
+        rows[first] = rows[second];
+        rows[second] = row;
+    }
+
+    /**
+     * @return a copy of the matrix
+     * @since 1.4
+     */
+    public BinaryMatrix copy() {
+        BinaryMatrix matrix = new BinaryMatrix(rows.length, numberOfColumns);
+
+        for (int i = 0; i < rows.length; i++) {
+            System.arraycopy(rows[i], 0, matrix.rows[i], 0, rows[i].length);
+        }
+
+        return matrix;
+    }
+
+    /**
+     * @return a transposed matrix
+     * @since 1.4
+     */
+    public BinaryMatrix transpose() {
+        BinaryMatrix matrix = new BinaryMatrix(numberOfColumns, rows.length);
+
+        for (int i = 0; i < rows.length; i++) {
+            long[] row = rows[i];
+            for (int w = 0; w < row.length; w++) {
+                long word = row[w];
+                while (word != 0) {
+                    int bit = Long.numberOfLeadingZeros(word);
+                    BitUtil.setBit(matrix.rows[(w << 6) + bit], i);
+                    word &= ~(Long.MIN_VALUE >>> bit);
+                }
+            }
+        }
+
+        return matrix;
+    }
+
+    /**
+     * Transform the matrix to the reduced row echelon form by the Gauss and Jordan elimination.
+     * If the columns of the first rank rows are independent the matrix gets the systematic form with
+     * the identity on the left
+     *
+     * @return indexes of pivot columns, the number of indexes is the rank of the matrix
+     * @since 1.4
+     */
+    public int[] reduceToEchelonForm() {
+        int[] pivotColumns = new int[Math.min(rows.length, numberOfColumns)];
+        int rank = 0;
+
+        for (int column = 0; column < numberOfColumns && rank < rows.length; column++) {
+            int word = column >>> 6;
+            long mask = Long.MIN_VALUE >>> (column & 63);
+            int pivot = rank;
+
+            while (pivot < rows.length && (rows[pivot][word] & mask) == 0) {
+                pivot++;
+            }
+            if (pivot == rows.length) {
+                continue;
+            }
+
+            swapRows(rank, pivot);
+            long[] pivotRow = rows[rank];
+            for (int i = 0; i < rows.length; i++) {
+                if (i != rank && (rows[i][word] & mask) != 0) {
+                    long[] row = rows[i];
+                    for (int w = word; w < row.length; w++) {
+                        row[w] ^= pivotRow[w];
+                    }
+                }
+            }
+            pivotColumns[rank++] = column;
+        }
+
+        return Arrays.copyOf(pivotColumns, rank);
+    }
+
+    /**
+     * @return a rank of the matrix, the matrix is not changed
+     * @since 1.4
+     */
+    public int getRank() {
+        return copy().reduceToEchelonForm().length;
+    }
+
+    /**
+     * Build a check matrix [P^T | I] of a generating matrix in the systematic form [I | P]
+     *
+     * @return a check matrix
+     * @throws IllegalStateException if the matrix does not start with the identity
+     * @since 1.4
+     */
+    public BinaryMatrix getCheckMatrix() {
+        int numberOfInformationBytes = rows.length;
+        int numberOfRedundantBytes = numberOfColumns - numberOfInformationBytes;
+
+        for (int i = 0; i < numberOfInformationBytes; i++) {
+            for (int j = 0; j < numberOfInformationBytes; j++) {
+                if (get(i, j) != (i == j ? 1 : 0)) {
+                    throw new IllegalStateException("matrix is not in the systematic form");
+                }
+            }
+        }
+
+        BinaryMatrix checkMatrix = new BinaryMatrix(numberOfRedundantBytes, numberOfColumns);
+        BinaryMatrix redundantPart = new BinaryMatrix(numberOfInformationBytes, numberOfRedundantBytes);
+
+        for (int i = 0; i < numberOfInformationBytes; i++) {
+            BitUtil.copyBits(rows[i], numberOfInformationBytes, redundantPart.rows[i], 0, numberOfRedundantBytes);
+        }
+
+        BinaryMatrix transposedPart = redundantPart.transpose();
+        for (int i = 0; i < numberOfRedundantBytes; i++) {
+            BitUtil.copyBits(transposedPart.rows[i], 0, checkMatrix.rows[i], 0, numberOfInformationBytes);
+            BitUtil.setBit(checkMatrix.rows[i], numberOfInformationBytes + i);
+        }
+
+        return checkMatrix;
+    }
+
+    /**
+     * Multiply the matrix by a given matrix by the method of four Russians
+     *
+     * @return a product
+     * @since 1.4
+     */
+    public BinaryMatrix multiply(BinaryMatrix other) {
+        if (numberOfColumns != other.rows.length) {
+            throw new IllegalArgumentException("number of columns should be equal to number of rows of other matrix");
+        }
+
+        BinaryMatrix product = new BinaryMatrix(rows.length, other.numberOfColumns);
+        int numberOfWords = BitUtil.getNumberOfWords(other.numberOfColumns);
+        long[][] sums = new long[1 << GROUP_SIZE][numberOfWords];
+
+        for (int from = 0; from < numberOfColumns; from += GROUP_SIZE) {
+            int groupSize = Math.min(GROUP_SIZE, numberOfColumns - from);
+
+            for (int index = 1; index < 1 << groupSize; index++) {
+                int lowestBit = Integer.numberOfTrailingZeros(index);
+                long[] previous = sums[index & (index - 1)];
+                long[] row = other.rows[from + groupSize - 1 - lowestBit];
+                long[] sum = sums[index];
+                for (int w = 0; w < numberOfWords; w++) {
+                    sum[w] = previous[w] ^ row[w];
+                }
+            }
+
+            for (int i = 0; i < rows.length; i++) {
+                int index = (int) BitUtil.getBits(rows[i], from, groupSize);
+                if (index != 0) {
+                    long[] sum = sums[index];
+                    long[] productRow = product.rows[i];
+                    for (int w = 0; w < numberOfWords; w++) {
+                        productRow[w] ^= sum[w];
+                    }
+                }
+            }
+        }
+
+        return product;
+    }
+
+    /**
+     * Sort rows in the lexicographic order by {@link PackedRowSort}
+     *
+     * @param isParallel true if parts of rows are sorted by the common fork join pool
+     * @since 1.4
+     */
+    public void sortRows(boolean isParallel) {
+        PackedRowSort.sort(rows, numberOfColumns, isParallel);
+    }
+
+    /**
+     * @return a matrix of distinct rows of the matrix in the lexicographic order, the matrix is not changed
+     * @since 1.4
+     */
+    public BinaryMatrix getDistinctRows(boolean isParallel) {
+        BinaryMatrix matrix = copy();
+
+        matrix.sortRows(isParallel);
+
+        int size = PackedRowSort.removeDuplicates(matrix.rows);
+
+        return new BinaryMatrix(Arrays.copyOf(matrix.rows, size), numberOfColumns);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BinaryMatrix)) {
+            return false;
+        }
+
+        BinaryMatrix that = (BinaryMatrix) o;
+
+        return numberOfColumns == that.numberOfColumns && Arrays.deepEquals(rows, that.rows);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.deepHashCode(rows) + numberOfColumns;
+    }
+}
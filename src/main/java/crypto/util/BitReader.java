@@ -0,0 +1,183 @@
+package crypto.util;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Read bits from a given stream starting from the most significant bit of every byte.
+ * Bytes are read through an internal buffer and kept in a 64-bit accumulator
+ *
+ * @since 1.4
+ */
+public final class BitReader {
+
+    private static final int BUFFER_SIZE = 1 << 13;
+
+    private final InputStream stream;
+    private final byte[] buffer;
+    private int bufferPosition;
+    private int bufferLength;
+    private long accumulator;
+    private int numberOfBits;
+    private boolean isEnded;
+
+    public BitReader(InputStream stream) {
+        this.stream = stream;
+        this.buffer = new byte[BUFFER_SIZE];
+    }
+
+    /**
+     * @return a next bit or -1 if the stream is ended
+     * @since 1.4
+     */
+    public int readBit() throws IOException {
+        if (numberOfBits == 0 && fill() == 0) {
+            return -1;
+        }
+
+        return (int) (accumulator >>> --numberOfBits) & 1;
+    }
+
+    /**
+     * Read up to 64 bits
+     *
+     * @return bits aligned to the least significant bit of the result
+     * @throws EOFException if the stream has less bits than a given length
+     * @since 1.4
+     */
+    public long read(int length) throws IOException {
+        if (length > 56) {
+            long high = read(length - 32);
+            return high << 32 | read(32);
+        }
+        if (length == 0) {
+            return 0;
+        }
+        if (numberOfBits < length && fill() < length) {
+            throw new EOFException("the stream contains less than " + length + " bits");
+        }
+
+        numberOfBits -= length;
+
+        return accumulator >>> numberOfBits & -1L >>> (BitUtil.WORD_LENGTH - length);
+    }
+
+    /**
+     * Look at up to 56 next bits without reading them.
+     * If the stream has less bits the missing bits are zeros
+     *
+     * @return bits aligned to the least significant bit of the result
+     * @since 1.4
+     */
+    public long peek(int length) throws IOException {
+        if (numberOfBits < length) {
+            fill();
+        }
+        if (numberOfBits < length) {
+            return accumulator << (length - numberOfBits) & -1L >>> (BitUtil.WORD_LENGTH - length);
+        }
+
+        return accumulator >>> (numberOfBits - length) & -1L >>> (BitUtil.WORD_LENGTH - length);
+    }
+
+    /**
+     * Skip up to 56 bits which have been looked at by {@link #peek(int)}
+     *
+     * @throws EOFException if the stream has less bits than a given length
+     * @since 1.4
+     */
+    public void skip(int length) throws IOException {
+        if (numberOfBits < length && fill() < length) {
+            throw new EOFException("the stream contains less than " + length + " bits");
+        }
+
+        numberOfBits -= length;
+    }
+
+    /**
+     * Read up to a given number of bits into a packed array.
+     * Bits of the array after the read bits are set to zero
+     *
+     * @return a number of read bits that is less than a given length only if the stream is ended
+     * @since 1.4
+     */
+    public int read(long[] words, int length) throws IOException {
+        int position = 0;
+
+        for (int i = 0; i < words.length; i++) {
+            words[i] = 0;
+        }
+
+        while (position < length) {
+            int chunk = Math.min(32, length - position);
+            if (numberOfBits < chunk) {
+                fill();
+            }
+            if (numberOfBits < chunk) {
+                int rest = numberOfBits;
+                BitUtil.setBits(words, position, read(rest), rest);
+                return position + rest;
+            }
+            BitUtil.setBits(words, position, read(chunk), chunk);
+            position += chunk;
+        }
+
+        return position;
+    }
+
+    /**
+     * Read a number which has been written by {@link BitWriter#writeVarLong(long)}
+     *
+     * @return a non-negative number
+     * @throws EOFException if the stream is ended inside the number
+     * @since 1.4
+     */
+    public long readVarLong() throws IOException {
+        long value = 0;
+
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            long group = read(Byte.SIZE);
+            value |= (group & 0x7F) << shift;
+            if ((group & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new IOException("the number is longer than 64 bits");
+    }
+
+    /**
+     * @return true if there are no more bits in the stream
+     * @since 1.4
+     */
+    public boolean isEnded() throws IOException {
+        return numberOfBits == 0 && fill() == 0;
+    }
+
+    /**
+     * Read bytes into the accumulator while it has space for a whole byte
+     *
+     * @return a number of bits in the accumulator
+     */
+    private int fill() throws IOException {
+        while (numberOfBits <= 56) {
+            if (bufferPosition == bufferLength) {
+                if (isEnded) {
+                    break;
+                }
+                bufferLength = stream.read(buffer, 0, buffer.length);
+                bufferPosition = 0;
+                if (bufferLength <= 0) {
+                    bufferLength = 0;
+                    isEnded = true;
+                    break;
+                }
+            }
+            accumulator = accumulator << Byte.SIZE | buffer[bufferPosition++] & 0xFF;
+            numberOfBits += Byte.SIZE;
+        }
+
+        return numberOfBits;
+    }
+}
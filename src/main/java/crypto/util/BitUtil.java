@@ -0,0 +1,157 @@
+package crypto.util;
+
+/**
+ * Helpers for bits packed into long words.
+ * A bit with index i is stored in the word i / 64 starting from the most significant bit of the word,
+ * so a packed array keeps the same order of bits as an array with one bit per int
+ *
+ * @since 1.4
+ */
+public final class BitUtil {
+
+    public static final int WORD_LENGTH = Long.SIZE;
+
+    private BitUtil() {
+    }
+
+    /**
+     * @return a number of long words which are needed to keep a given number of bits
+     * @since 1.4
+     */
+    public static int getNumberOfWords(int numberOfBits) {
+        return (numberOfBits + WORD_LENGTH - 1) >>> 6;
+    }
+
+    /**
+     * Pack a given part of array with one bit per int into long words
+     *
+     * @return packed bits
+     * @since 1.4
+     */
+    public static long[] pack(int[] bits, int offset, int length) {
+        long[] words = new long[getNumberOfWords(length)];
+
+        for (int i = 0; i < length; i++) {
+            words[i >>> 6] |= (long) (bits[offset + i] & 1) << (~i & 63);
+        }
+
+        return words;
+    }
+
+    /**
+     * Unpack a given number of bits into an array with one bit per int
+     *
+     * @return unpacked bits
+     * @since 1.4
+     */
+    public static int[] unpack(long[] words, int length) {
+        int[] bits = new int[length];
+
+        for (int i = 0; i < length; i++) {
+            bits[i] = (int) (words[i >>> 6] >>> (~i & 63)) & 1;
+        }
+
+        return bits;
+    }
+
+    /**
+     * @return a bit on a given position
+     * @since 1.4
+     */
+    public static int getBit(long[] words, int position) {
+        return (int) (words[position >>> 6] >>> (~position & 63)) & 1;
+    }
+
+    /**
+     * Set a bit on a given position to one
+     *
+     * @since 1.4
+     */
+    public static void setBit(long[] words, int position) {
+        words[position >>> 6] |= 1L << (~position & 63);
+    }
+
+    /**
+     * Invert a bit on a given position
+     *
+     * @since 1.4
+     */
+    public static void flipBit(long[] words, int position) {
+        words[position >>> 6] ^= 1L << (~position & 63);
+    }
+
+    /**
+     * Read up to 64 bits starting from a given position
+     *
+     * @return bits aligned to the least significant bit of the result
+     * @since 1.4
+     */
+    public static long getBits(long[] words, int position, int length) {
+        if (length == 0) {
+            return 0;
+        }
+
+        int index = position >>> 6;
+        int shift = position & 63;
+        long value = words[index] << shift;
+
+        if (shift + length > WORD_LENGTH) {
+            value |= words[index + 1] >>> (WORD_LENGTH - shift);
+        }
+
+        return value >>> (WORD_LENGTH - length);
+    }
+
+    /**
+     * Write up to 64 bits aligned to the least significant bit of a given value starting from a given position
+     *
+     * @since 1.4
+     */
+    public static void setBits(long[] words, int position, long value, int length) {
+        if (length == 0) {
+            return;
+        }
+
+        long bits = value << (WORD_LENGTH - length);
+        long mask = -1L << (WORD_LENGTH - length);
+        int index = position >>> 6;
+        int shift = position & 63;
+
+        words[index] = words[index] & ~(mask >>> shift) | bits >>> shift;
+
+        if (shift + length > WORD_LENGTH) {
+            words[index + 1] = words[index + 1] & ~(mask << (WORD_LENGTH - shift))
+                    | bits << (WORD_LENGTH - shift);
+        }
+    }
+
+    /**
+     * Copy a given number of bits between two packed arrays
+     *
+     * @since 1.4
+     */
+    public static void copyBits(long[] source, int sourcePosition, long[] destination,
+                                int destinationPosition, int length) {
+        for (int i = 0; i < length; i += WORD_LENGTH) {
+            int chunk = Math.min(WORD_LENGTH, length - i);
+            setBits(destination, destinationPosition + i, getBits(source, sourcePosition + i, chunk), chunk);
+        }
+    }
+
+    /**
+     * Calculate a parity of a scalar product of two packed arrays on the base of AND and population count
+     *
+     * @return zero or one
+     * @since 1.4
+     */
+    public static int parityOfProduct(long[] first, long[] second) {
+        long accumulator = 0;
+        int length = Math.min(first.length, second.length);
+
+        for (int i = 0; i < length; i++) {
+            accumulator ^= first[i] & second[i];
+        }
+
+        return Long.bitCount(accumulator) & 1;
+    }
+}
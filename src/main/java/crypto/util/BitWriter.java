@@ -0,0 +1,123 @@
+package crypto.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Write bits into a given stream starting from the most significant bit of every byte.
+ * Bits are collected in a 64-bit accumulator and flushed to the stream through an internal byte buffer
+ *
+ * @since 1.4
+ */
+public final class BitWriter {
+
+    private static final int BUFFER_SIZE = 1 << 13;
+
+    private final OutputStream stream;
+    private final byte[] buffer;
+    private int bufferPosition;
+    private long accumulator;
+    private int numberOfBits;
+    private long numberOfWrittenBits;
+
+    public BitWriter(OutputStream stream) {
+        this.stream = stream;
+        this.buffer = new byte[BUFFER_SIZE];
+    }
+
+    /**
+     * Write one bit
+     *
+     * @since 1.4
+     */
+    public void writeBit(int bit) throws IOException {
+        write(bit, 1);
+    }
+
+    /**
+     * Write up to 64 bits aligned to the least significant bit of a given value
+     *
+     * @since 1.4
+     */
+    public void write(long value, int length) throws IOException {
+        if (length > 56) {
+            write(value >>> 32, length - 32);
+            write(value, 32);
+            return;
+        }
+        if (length == 0) {
+            return;
+        }
+
+        accumulator = accumulator << length | value & -1L >>> (BitUtil.WORD_LENGTH - length);
+        numberOfBits += length;
+        numberOfWrittenBits += length;
+
+        while (numberOfBits >= Byte.SIZE) {
+            numberOfBits -= Byte.SIZE;
+            if (bufferPosition == buffer.length) {
+                flushBuffer();
+            }
+            buffer[bufferPosition++] = (byte) (accumulator >>> numberOfBits);
+        }
+    }
+
+    /**
+     * Write a given number of bits of a packed array
+     *
+     * @since 1.4
+     */
+    public void write(long[] words, int length) throws IOException {
+        for (int i = 0; length > 0; i++, length -= BitUtil.WORD_LENGTH) {
+            if (length >= BitUtil.WORD_LENGTH) {
+                write(words[i], BitUtil.WORD_LENGTH);
+            } else {
+                write(words[i] >>> (BitUtil.WORD_LENGTH - length), length);
+            }
+        }
+    }
+
+    /**
+     * Write a non-negative number by groups of seven bits starting from the least significant group.
+     * Every group is written as a byte where the highest bit shows that one more group follows
+     *
+     * @since 1.4
+     */
+    public void writeVarLong(long value) throws IOException {
+        if (value < 0) {
+            throw new IllegalArgumentException("value should not be negative");
+        }
+
+        while (value >= 0x80) {
+            write(value & 0x7F | 0x80, Byte.SIZE);
+            value >>>= 7;
+        }
+        write(value, Byte.SIZE);
+    }
+
+    /**
+     * @return a number of bits which have been written including bits which are still in the accumulator
+     * @since 1.4
+     */
+    public long getNumberOfWrittenBits() {
+        return numberOfWrittenBits;
+    }
+
+    /**
+     * Fill the last byte with zeros if it is incomplete and write all collected bytes to the stream
+     *
+     * @since 1.4
+     */
+    public void finish() throws IOException {
+        if (numberOfBits > 0) {
+            write(0, Byte.SIZE - numberOfBits);
+        }
+        flushBuffer();
+        stream.flush();
+    }
+
+    private void flushBuffer() throws IOException {
+        stream.write(buffer, 0, bufferPosition);
+        bufferPosition = 0;
+    }
+}
@@ -0,0 +1,63 @@
+package crypto.util;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Adapters which allow to pass byte buffers to stream based codecs
+ *
+ * @since 1.4
+ */
+public final class ByteBufferUtil {
+
+    private ByteBufferUtil() {
+    }
+
+    /**
+     * @return a stream that reads the remaining bytes of a given buffer and moves its position
+     * @since 1.4
+     */
+    public static InputStream asInputStream(ByteBuffer buffer) {
+        return new InputStream() {
+            @Override
+            public int read() {
+                return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte[] bytes, int offset, int length) {
+                if (length == 0) {
+                    return 0;
+                }
+                if (!buffer.hasRemaining()) {
+                    return -1;
+                }
+
+                int count = Math.min(length, buffer.remaining());
+                buffer.get(bytes, offset, count);
+
+                return count;
+            }
+        };
+    }
+
+    /**
+     * @return a stream that puts bytes into a given buffer and throws
+     * {@link java.nio.BufferOverflowException} if the buffer is full
+     * @since 1.4
+     */
+    public static OutputStream asOutputStream(ByteBuffer buffer) {
+        return new OutputStream() {
+            @Override
+            public void write(int b) {
+                buffer.put((byte) b);
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) {
+                buffer.put(bytes, offset, length);
+            }
+        };
+    }
+}
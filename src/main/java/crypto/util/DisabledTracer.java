@@ -0,0 +1,22 @@
+package crypto.util;
+
+/**
+ * @since 1.4
+ */
+final class DisabledTracer implements Tracer {
+
+    static final DisabledTracer INSTANCE = new DisabledTracer();
+
+    private DisabledTracer() {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public PrintUtil getPrintUtil() {
+        throw new IllegalStateException("tracer is disabled");
+    }
+}
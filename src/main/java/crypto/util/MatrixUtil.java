@@ -1,5 +1,7 @@
 package crypto.util;
 
+import java.util.Arrays;
+
 public class MatrixUtil {
 
     /**
@@ -16,7 +18,8 @@ public class MatrixUtil {
     }
 
     /**
-     * Sum values of given arrays of any matrix and save the result as values of first array
+     * Sum values of given arrays of any matrix modulo two and save the result as values of first array.
+     * Packed rows of {@link BinaryMatrix} are summed by words
      *
      * @since 1.0
      */
@@ -25,35 +28,41 @@ public class MatrixUtil {
             return;
         }
         for (int i = 0; i < row1.length; i++) {
-            row1[i] += row2[i];
-            row1[i] %= 2;
+            row1[i] = (row1[i] ^ row2[i]) & 1;
         }
     }
 
 
     /**
      * Sort rows of matrix by the alphabet.
+     * Binary matrices are packed and sorted by {@link BinaryMatrix#sortRows(boolean)},
+     * other matrices are sorted by comparing values of rows
      *
      * @since 1.0
      */
     public void sortMatrixByAlphabet(int[][] matrix) {
-        int lengthOfWord = matrix.length;
-
-        for (int i = 0; i < lengthOfWord - 1; i++) {
-            for (int j = 0; j < lengthOfWord - 1; j++) {
-                if (matrix[j][0] > matrix[j + 1][0]) {
-                    swapTwoRows(matrix[j], matrix[j + 1]);
-                } else if (matrix[j][0] == matrix[j + 1][0]) {
-                    for (int k = 1; k < lengthOfWord; k++) {
-                        if (matrix[j][k] > matrix[j + 1][k]) {
-                            swapTwoRows(matrix[j], matrix[j + 1]);
-                            break;
-                        } else if (matrix[j][k] < matrix[j + 1][k]) {
-                            break;
-                        }
-                    }
+        if (isBinary(matrix)) {
+            BinaryMatrix binaryMatrix = BinaryMatrix.fromArray(matrix);
+            binaryMatrix.sortRows(false);
+            binaryMatrix.toArray(matrix);
+            return;
+        }
+
+        Arrays.sort(matrix, Arrays::compare);
+    }
+
+    private static boolean isBinary(int[][] matrix) {
+        for (int[] row : matrix) {
+            if (row.length != matrix[0].length) {
+                return false;
+            }
+            for (int value : row) {
+                if ((value & ~1) != 0) {
+                    return false;
                 }
             }
         }
+
+        return true;
     }
-}
\ No newline at end of file
+}
@@ -1,32 +1,202 @@
 package crypto.util;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
 /**
  * @since 1.1
  */
 public class MessageUtil {
-    public static final int US_ASCII_CHAR_BYTE_LENGTH = 8;
+    public static final int US_ASCII_CHAR_BYTE_LENGTH = Byte.SIZE;
 
     /**
      * Convert a given message to a byte array with US ASCII byte length of any char
      *
+     * @throws IllegalArgumentException if a char does not fit eight bits,
+     *                                  such messages are converted by {@link #convertMessageToBits(String, Charset)}
      * @since 1.1
      */
     public int[] convertMessageToByteArray(String message) {
-        char[] chars = message.toCharArray();
-        int[] bytes;
+        int[] bits = new int[message.length() * Byte.SIZE];
 
-        StringBuilder builder = new StringBuilder();
-        String buffer;
         for (int i = 0; i < message.length(); i++) {
-            buffer = Integer.toString(chars[i], 2);
-            while (buffer.length() != US_ASCII_CHAR_BYTE_LENGTH) {
-                buffer = "0".concat(buffer);
+            char c = message.charAt(i);
+            if (c >>> Byte.SIZE != 0) {
+                throw new IllegalArgumentException("char " + c + " does not fit " + Byte.SIZE + " bits");
             }
-            builder.append(buffer);
+            setByteBits(bits, i * Byte.SIZE, c);
         }
 
-        bytes = builder.toString().chars().map(x -> x - '0').toArray();
+        return bits;
+    }
+
+    /**
+     * Convert bits which have been made by {@link #convertMessageToByteArray(String)} back to a message
+     *
+     * @return a message with a char for every eight bits
+     * @since 1.4
+     */
+    public String convertByteArrayToMessage(int[] bits) {
+        checkLength(bits.length);
+
+        char[] chars = new char[bits.length / Byte.SIZE];
+
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) getByteBits(bits, i * Byte.SIZE);
+        }
+
+        return new String(chars);
+    }
+
+    /**
+     * Convert a given message encoded as UTF-8 to bits
+     *
+     * @return bits of the message
+     * @since 1.4
+     */
+    public int[] convertMessageToBits(String message) {
+        return convertMessageToBits(message, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Convert a given message encoded by a given charset to bits
+     *
+     * @return bits of the message
+     * @since 1.4
+     */
+    public int[] convertMessageToBits(String message, Charset charset) {
+        return convertBytesToBits(message.getBytes(charset));
+    }
+
+    /**
+     * Convert bits which have been made by {@link #convertMessageToBits(String)} back to a message
+     *
+     * @return a message
+     * @since 1.4
+     */
+    public String convertBitsToMessage(int[] bits) {
+        return convertBitsToMessage(bits, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Convert bits to a message decoded by a given charset
+     *
+     * @return a message
+     * @since 1.4
+     */
+    public String convertBitsToMessage(int[] bits, Charset charset) {
+        return new String(convertBitsToBytes(bits), charset);
+    }
+
+    /**
+     * Convert bytes to bits starting from the most significant bit of every byte
+     *
+     * @return bits of the bytes
+     * @since 1.4
+     */
+    public int[] convertBytesToBits(byte[] bytes) {
+        int[] bits = new int[bytes.length * Byte.SIZE];
+
+        for (int i = 0; i < bytes.length; i++) {
+            setByteBits(bits, i * Byte.SIZE, bytes[i] & 0xFF);
+        }
+
+        return bits;
+    }
+
+    /**
+     * Convert bits to bytes, every eight bits become a byte
+     *
+     * @return bytes
+     * @throws IllegalArgumentException if a number of bits is not a multiple of eight
+     * @since 1.4
+     */
+    public byte[] convertBitsToBytes(int[] bits) {
+        checkLength(bits.length);
+
+        byte[] bytes = new byte[bits.length / Byte.SIZE];
+
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) getByteBits(bits, i * Byte.SIZE);
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Convert a given message encoded by a given charset to bits packed as {@link BitUtil} does
+     *
+     * @return packed bits, the number of bits is eight times the number of encoded bytes
+     * @since 1.4
+     */
+    public long[] convertMessageToPackedBits(String message, Charset charset) {
+        return convertBytesToPackedBits(message.getBytes(charset));
+    }
+
+    /**
+     * Convert packed bits to a message decoded by a given charset
+     *
+     * @return a message
+     * @since 1.4
+     */
+    public String convertPackedBitsToMessage(long[] words, int numberOfBits, Charset charset) {
+        return new String(convertPackedBitsToBytes(words, numberOfBits), charset);
+    }
+
+    /**
+     * Convert bytes to bits packed as {@link BitUtil} does, so every long word keeps eight bytes in big-endian order
+     *
+     * @return packed bits
+     * @since 1.4
+     */
+    public long[] convertBytesToPackedBits(byte[] bytes) {
+        long[] words = new long[BitUtil.getNumberOfWords(bytes.length * Byte.SIZE)];
+
+        for (int i = 0; i < bytes.length; i++) {
+            words[i >>> 3] |= (bytes[i] & 0xFFL) << (Long.SIZE - Byte.SIZE - (i & 7) * Byte.SIZE);
+        }
+
+        return words;
+    }
+
+    /**
+     * Convert packed bits to bytes
+     *
+     * @return bytes
+     * @throws IllegalArgumentException if a number of bits is not a multiple of eight
+     * @since 1.4
+     */
+    public byte[] convertPackedBitsToBytes(long[] words, int numberOfBits) {
+        checkLength(numberOfBits);
+
+        byte[] bytes = new byte[numberOfBits / Byte.SIZE];
+
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (words[i >>> 3] >>> (Long.SIZE - Byte.SIZE - (i & 7) * Byte.SIZE));
+        }
 
         return bytes;
     }
-}
\ No newline at end of file
+
+    private static void setByteBits(int[] bits, int offset, int value) {
+        for (int j = 0; j < Byte.SIZE; j++) {
+            bits[offset + j] = value >>> (Byte.SIZE - 1 - j) & 1;
+        }
+    }
+
+    private static int getByteBits(int[] bits, int offset) {
+        int value = 0;
+
+        for (int j = 0; j < Byte.SIZE; j++) {
+            value = value << 1 | bits[offset + j] & 1;
+        }
+
+        return value;
+    }
+
+    private static void checkLength(int numberOfBits) {
+        if (numberOfBits < 0 || numberOfBits % Byte.SIZE != 0) {
+            throw new IllegalArgumentException("number of bits should be a multiple of " + Byte.SIZE);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package crypto.util;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Lexicographic sort of rows packed as {@link BitUtil} does.
+ * Rows are sorted by the least significant digit radix sort with digits of eight columns from the last digit
+ * to the first one, a pass is skipped if all rows have the same digit. In the parallel mode the rows are split
+ * into parts which are sorted by tasks of the fork join pool and merged by comparing words as unsigned numbers
+ *
+ * @since 1.4
+ */
+final class PackedRowSort {
+
+    private static final int DIGIT_SIZE = Byte.SIZE;
+    private static final int NUMBER_OF_DIGITS = 1 << DIGIT_SIZE;
+    private static final int PARALLEL_GRAIN_SIZE = 1 << 14;
+
+    private PackedRowSort() {
+    }
+
+    /**
+     * Sort references of given rows in place
+     */
+    static void sort(long[][] rows, int numberOfColumns, boolean isParallel) {
+        long[][] buffer = new long[rows.length][];
+
+        if (isParallel && rows.length > PARALLEL_GRAIN_SIZE) {
+            ForkJoinPool.commonPool().invoke(new SortTask(rows, buffer, 0, rows.length, numberOfColumns));
+        } else {
+            radixSort(rows, buffer, 0, rows.length, numberOfColumns);
+        }
+    }
+
+    /**
+     * @return a number of distinct rows which are moved to the beginning of given sorted rows
+     */
+    static int removeDuplicates(long[][] rows) {
+        int size = 0;
+
+        for (int i = 0; i < rows.length; i++) {
+            if (size == 0 || compare(rows[size - 1], rows[i]) != 0) {
+                rows[size++] = rows[i];
+            }
+        }
+
+        return size;
+    }
+
+    static int compare(long[] first, long[] second) {
+        for (int i = 0; i < first.length; i++) {
+            if (first[i] != second[i]) {
+                return Long.compareUnsigned(first[i], second[i]);
+            }
+        }
+
+        return 0;
+    }
+
+    private static void radixSort(long[][] rows, long[][] buffer, int from, int to, int numberOfColumns) {
+        if (to - from < 2) {
+            return;
+        }
+
+        int[] counts = new int[NUMBER_OF_DIGITS + 1];
+        long[][] source = rows;
+        long[][] target = buffer;
+
+        for (int digit = (numberOfColumns + DIGIT_SIZE - 1) / DIGIT_SIZE - 1; digit >= 0; digit--) {
+            int word = digit / Long.BYTES;
+            int shift = Long.SIZE - DIGIT_SIZE * (digit % Long.BYTES + 1);
+
+            Arrays.fill(counts, 0);
+            for (int i = from; i < to; i++) {
+                counts[((int) (source[i][word] >>> shift) & 0xFF) + 1]++;
+            }
+            if (counts[((int) (source[from][word] >>> shift) & 0xFF) + 1] == to - from) {
+                continue;
+            }
+            for (int d = 0; d < NUMBER_OF_DIGITS; d++) {
+                counts[d + 1] += counts[d];
+            }
+            for (int i = from; i < to; i++) {
+                target[from + counts[(int) (source[i][word] >>> shift) & 0xFF]++] = source[i];
+            }
+
+            long[][] swap = source;
+            source = target;
+            target = swap;
+        }
+
+        if (source != rows) {
+            System.arraycopy(source, from, rows, from, to - from);
+        }
+    }
+
+    /**
+     * Sort halves of rows in parallel and merge them through the buffer
+     *
+     * @since 1.4
+     */
+    private static final class SortTask extends RecursiveAction {
+        private final long[][] rows;
+        private final long[][] buffer;
+        private final int from;
+        private final int to;
+        private final int numberOfColumns;
+
+        private SortTask(long[][] rows, long[][] buffer, int from, int to, int numberOfColumns) {
+            this.rows = rows;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.numberOfColumns = numberOfColumns;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_GRAIN_SIZE) {
+                radixSort(rows, buffer, from, to, numberOfColumns);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new SortTask(rows, buffer, from, middle, numberOfColumns),
+                    new SortTask(rows, buffer, middle, to, numberOfColumns));
+
+            System.arraycopy(rows, from, buffer, from, to - from);
+            int left = from;
+            int right = middle;
+            for (int i = from; i < to; i++) {
+                if (right == to || left < middle && compare(buffer[left], buffer[right]) <= 0) {
+                    rows[i] = buffer[left++];
+                } else {
+                    rows[i] = buffer[right++];
+                }
+            }
+        }
+    }
+}
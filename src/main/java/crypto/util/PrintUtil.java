@@ -49,27 +49,20 @@ public final class PrintUtil {
     }
 
     public PrintUtil printArray(int[] array) {
-        for (int j : array) {
-            stream.print(j);
-        }
+        stream.print(toString(array));
 
         return this;
     }
 
     public PrintUtil printArray(char[] array) {
-        for (char c : array) {
-            stream.print(c);
-        }
+        stream.print(array);
 
         return this;
     }
 
     public PrintUtil printMatrix(int[][] matrix) {
         for (int[] ints : matrix) {
-            for (int anInt : ints) {
-                stream.print(anInt);
-            }
-            stream.println();
+            stream.println(toString(ints));
         }
 
         return this;
@@ -77,10 +70,7 @@ public final class PrintUtil {
 
     public PrintUtil printMatrix(char[][] matrix) {
         for (char[] chars : matrix) {
-            for (char aChar : chars) {
-                stream.print(aChar);
-            }
-            stream.println();
+            stream.println(chars);
         }
 
         return this;
@@ -98,4 +88,19 @@ public final class PrintUtil {
 
         return this;
     }
-}
\ No newline at end of file
+
+    /**
+     * Build a string of an array, so the array is printed by one call of the stream
+     *
+     * @since 1.4
+     */
+    private String toString(int[] array) {
+        StringBuilder builder = new StringBuilder(array.length);
+
+        for (int j : array) {
+            builder.append(j);
+        }
+
+        return builder.toString();
+    }
+}
@@ -0,0 +1,41 @@
+package crypto.util;
+
+import java.io.PrintStream;
+
+/**
+ * Output of intermediate states of algorithms.
+ * Callers check {@link #isEnabled()} before building any output, so a disabled tracer costs nothing
+ * and the tracing code is removed by the JIT compiler
+ *
+ * @since 1.4
+ */
+public interface Tracer {
+
+    /**
+     * @return true if the intermediate states should be printed
+     * @since 1.4
+     */
+    boolean isEnabled();
+
+    /**
+     * @return a print util for the intermediate states, must be used only if the tracer is enabled
+     * @since 1.4
+     */
+    PrintUtil getPrintUtil();
+
+    /**
+     * @return a tracer that prints nothing
+     * @since 1.4
+     */
+    static Tracer disabled() {
+        return DisabledTracer.INSTANCE;
+    }
+
+    /**
+     * @return a tracer that prints all intermediate states to a given stream
+     * @since 1.4
+     */
+    static Tracer verbose(PrintStream stream) {
+        return new VerboseTracer(stream);
+    }
+}
@@ -0,0 +1,60 @@
+package crypto.util;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Write and read non-negative numbers by groups of seven bits starting from the least significant group.
+ * Every group is a byte where the highest bit shows that one more group follows,
+ * the same format is written by {@link BitWriter#writeVarLong(long)}
+ *
+ * @since 1.4
+ */
+public final class VarLongUtil {
+
+    private VarLongUtil() {
+    }
+
+    /**
+     * Write a non-negative number into a given stream
+     *
+     * @since 1.4
+     */
+    public static void write(OutputStream stream, long value) throws IOException {
+        if (value < 0) {
+            throw new IllegalArgumentException("value should not be negative");
+        }
+
+        while (value >= 0x80) {
+            stream.write((int) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        stream.write((int) value);
+    }
+
+    /**
+     * Read a non-negative number from a given stream
+     *
+     * @return a number
+     * @throws EOFException if the stream is ended inside the number
+     * @since 1.4
+     */
+    public static long read(InputStream stream) throws IOException {
+        long value = 0;
+
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int group = stream.read();
+            if (group < 0) {
+                throw new EOFException("the stream is ended inside a number");
+            }
+            value |= (long) (group & 0x7F) << shift;
+            if ((group & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new IOException("the number is longer than 64 bits");
+    }
+}
@@ -0,0 +1,25 @@
+package crypto.util;
+
+import java.io.PrintStream;
+
+/**
+ * @since 1.4
+ */
+final class VerboseTracer implements Tracer {
+
+    private final PrintUtil printUtil;
+
+    VerboseTracer(PrintStream stream) {
+        this.printUtil = new PrintUtil(stream);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public PrintUtil getPrintUtil() {
+        return printUtil;
+    }
+}